@@ -32,40 +32,58 @@ sudo docker rm ${IDLE_PORT}
 echo "> 도커 이미지 최신 버전 pull"
 sudo docker pull juhwan0815/board:latest
 
-echo "> 도커 실행 포트:$IDLE_PORT"
-sudo docker run -d --name $IDLE_PORT -p ${IDLE_PORT}:${IDLE_PORT} -e "server.port=${IDLE_PORT}" juhwan0815/board:latest
+# 인스턴스별 커넥션 풀 크기 (예: POOL_SIZE=20 ADAPTIVE_POOL=true ./deploy.sh), 지정하지 않으면 board.jdbc 기본값
+JDBC_OPTS=""
+if [ -n "${POOL_SIZE}" ]
+then
+    JDBC_OPTS="${JDBC_OPTS} -e board.jdbc.pool.maximum-pool-size=${POOL_SIZE}"
+fi
+if [ "${ADAPTIVE_POOL}" == "true" ]
+then
+    JDBC_OPTS="${JDBC_OPTS} -e board.jdbc.pool.adaptive.enabled=true"
+fi
+
+# 전환 중 두 인스턴스가 UDP(1808x)로 서로의 게시글 캐시를 무효화한다.
+INVALIDATION_PORT=1${IDLE_PORT}
+PEER_INVALIDATION_PORT=1${CURRENT_PORT}
+INVALIDATION_OPTS="-p ${INVALIDATION_PORT}:${INVALIDATION_PORT}/udp --add-host=host.docker.internal:host-gateway"
+INVALIDATION_OPTS="${INVALIDATION_OPTS} -e board.cache.invalidation.transport=udp"
+INVALIDATION_OPTS="${INVALIDATION_OPTS} -e board.cache.invalidation.udp.port=${INVALIDATION_PORT}"
+INVALIDATION_OPTS="${INVALIDATION_OPTS} -e board.cache.invalidation.udp.peers=host.docker.internal:${PEER_INVALIDATION_PORT}"
 
-echo "> $IDLE_PORT 15 초 후 Health Check 시작"
-echo "> curl -s http://localhost:$IDLE_PORT/actuator/health "
-sleep 20
+echo "> 도커 실행 포트:$IDLE_PORT ${JDBC_OPTS}"
+sudo docker run -d --name $IDLE_PORT -p ${IDLE_PORT}:${IDLE_PORT} -e "server.port=${IDLE_PORT}" ${JDBC_OPTS} ${INVALIDATION_OPTS} juhwan0815/board:latest
 
+echo "> $IDLE_PORT readiness 확인 시작"
+echo "> curl -s http://localhost:$IDLE_PORT/actuator/health/readiness "
 
-for RETRY_COUNT in {1..10}
+for RETRY_COUNT in {1..60}
 do
-  RESPONSE=$(curl -s http://localhost:${IDLE_PORT}/actuator/health)
-  UP_COUNT=$(echo ${RESPONSE} | grep 'UP' | wc -l)
+  RESPONSE=$(curl -s http://localhost:${IDLE_PORT}/actuator/health/readiness)
+  UP_COUNT=$(echo ${RESPONSE} | grep '"status":"UP"' | wc -l)
 
-  if [ ${UP_COUNT} -ge 1 ] # $up_count >= 1 ("UP" 문자열이 있는지 검증)
+  if [ ${UP_COUNT} -ge 1 ] # 워밍업이 끝나야 readiness 가 UP 이 된다.
   then
-      echo "> Health check 성공"
+      echo "> Readiness check 성공 (${RETRY_COUNT}초)"
       echo "> 전환할 Port: $IDLE_PORT"
       echo "> Port 전환"
+      # 엔진엑스 설정은 scripts/nginx-board.conf 참고 (X-Forwarded-For 전달)
       echo "set \$service_url http://127.0.0.1:${IDLE_PORT};" | sudo tee /etc/nginx/conf.d/service-url.inc
       echo "> 엔진엑스 Reload"
       sudo service nginx reload
+      echo "> 커넥션 풀/문장 캐시 상태"
+      curl -s http://localhost:${IDLE_PORT}/actuator/boardjdbc
+      echo
       break
-  else
-      echo "> Health check의 응답을 알 수 없거나 혹은 실행 상태가 아닙니다."
-      echo "> Health check: ${RESPONSE}"
   fi
 
-  if [ ${RETRY_COUNT} -eq 10 ]
+  if [ ${RETRY_COUNT} -eq 60 ]
   then
-      echo "> Health check 실패. "
+      echo "> Readiness check 실패. "
+      echo "> Readiness check: ${RESPONSE}"
       echo "> 엔진엑스에 연결하지 않고 배포를 종료합니다."
       exit 1
   fi
 
-  echo "> Health check 연결 실패. 재시도..."
-  sleep 10
+  sleep 1
 done
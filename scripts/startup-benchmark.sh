@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# 기존 실행 방식(java -jar, 기본 프로필)과 배포 이미지 방식(prod 프로필 + AppCDS)의
+# 기동 후 트래픽을 받을 수 있을 때까지 걸리는 시간과 그 시점의 RSS 를 비교한다.
+#
+# 사용법: ./gradlew bootJar && scripts/startup-benchmark.sh [반복 횟수]
+# 결과는 실행 환경과 함께 마크다운 표로 출력하고 build/reports/startup/result.md 에도 남긴다.
+# 커밋이나 배포 문서에 숫자를 옮길 때 이 표를 그대로 붙인다.
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+REPORT=build/reports/startup/result.md
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+echo "> $JAR 를 풀어 AppCDS 용 classpath 구성"
+(cd "$WORK" && java -Djarmode=layertools -jar "$OLDPWD/$JAR" extract > /dev/null)
+mkdir -p "$WORK/app/lib"
+cp "$WORK"/dependencies/BOOT-INF/lib/*.jar "$WORK/app/lib/"
+if [ -d "$WORK/snapshot-dependencies/BOOT-INF/lib" ]; then
+    cp "$WORK"/snapshot-dependencies/BOOT-INF/lib/*.jar "$WORK/app/lib/"
+fi
+jar --create --file "$WORK/app/board.jar" -C "$WORK/application/BOOT-INF/classes" .
+
+echo "> AppCDS 아카이브 생성 (학습 실행)"
+(cd "$WORK/app" && java -XX:ArchiveClassesAtExit=board.jsa -cp "board.jar:lib/*" com.able.board.BoardApplication \
+    --spring.profiles.active=prod --server.port=0 --board.warmup.exit-on-complete=true > /dev/null)
+
+# $1: 이름, $2: 확인할 health URL 경로, 나머지: 실행 명령. 평균을 RESULT_MS, RESULT_MB 에 남긴다.
+measure() {
+    local name=$1 health=$2
+    shift 2
+    local total_ms=0 total_rss=0
+
+    for ((i = 1; i <= RUNS; i++)); do
+        local start=$(date +%s%N)
+        "$@" --server.port=${PORT} > "$WORK/$name.log" 2>&1 &
+        local pid=$!
+
+        until curl -sf "http://localhost:${PORT}${health}" | grep -q '"status":"UP"'; do
+            if ! kill -0 $pid 2> /dev/null; then
+                echo "> $name 기동 실패, 로그: $WORK/$name.log" >&2
+                cat "$WORK/$name.log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+
+        local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        local rss=$(ps -o rss= -p $pid | tr -d ' ')
+        total_ms=$((total_ms + elapsed))
+        total_rss=$((total_rss + rss))
+
+        kill $pid
+        wait $pid 2> /dev/null || true
+    done
+
+    RESULT_MS=$((total_ms / RUNS))
+    RESULT_MB=$((total_rss / RUNS / 1024))
+    printf "%-22s %10d ms %10d MB\n" "$name" $RESULT_MS $RESULT_MB
+}
+
+echo
+printf "%-22s %13s %13s\n" "mode" "time-to-ready" "rss"
+measure "default (java -jar)" /actuator/health java -jar "$JAR"
+BEFORE_MS=$RESULT_MS
+BEFORE_MB=$RESULT_MB
+
+JAR_DIR=$(pwd)
+cd "$WORK/app"
+measure "prod + AppCDS" /actuator/health/readiness \
+    java -XX:SharedArchiveFile=board.jsa -Xshare:auto -XX:MaxRAMPercentage=75 -XX:ReservedCodeCacheSize=64m -Xss512k \
+    -cp "board.jar:lib/*" com.able.board.BoardApplication --spring.profiles.active=prod
+cd "$JAR_DIR"
+
+mkdir -p "$(dirname "$REPORT")"
+{
+    echo "startup benchmark: $(git rev-parse --short HEAD 2> /dev/null || echo unknown), $(java -version 2>&1 | head -1), $(nproc) cpu, ${RUNS} runs"
+    echo
+    echo "| mode | time-to-ready (ms) | RSS (MB) |"
+    echo "|---|---:|---:|"
+    echo "| default (java -jar) | ${BEFORE_MS} | ${BEFORE_MB} |"
+    echo "| prod + AppCDS | ${RESULT_MS} | ${RESULT_MB} |"
+    echo "| 차이 | $((RESULT_MS - BEFORE_MS)) | $((RESULT_MB - BEFORE_MB)) |"
+} > "$REPORT"
+echo
+cat "$REPORT"
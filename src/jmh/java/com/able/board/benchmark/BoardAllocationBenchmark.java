@@ -0,0 +1,103 @@
+package com.able.board.benchmark;
+
+import com.able.board.BoardApplication;
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardResponse;
+import com.able.board.dto.ExceptionResponse;
+import com.able.board.exception.BoardNotFoundException;
+import com.able.board.service.BoardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 역직렬화 - 서비스 - 응답 직렬화 구간의 요청당 할당량을 잰다.
+ * build.gradle 의 jmh 블록에 gc 프로파일러가 켜져 있으므로 gc.alloc.rate.norm (B/op) 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardAllocationBenchmark {
+
+    private static final int SEED_SIZE = 1000;
+    private static final int PAGE_SIZE = 10;
+
+    private ConfigurableApplicationContext context;
+
+    private BoardService boardService;
+
+    private ObjectMapper objectMapper;
+
+    private List<Long> boardIds;
+
+    private byte[] createRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.org.hibernate.SQL=warn")
+                .run();
+        boardService = context.getBean(BoardService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        List<BoardCreateRequest> seed = new ArrayList<>();
+        for (int i = 0; i < SEED_SIZE; i++) {
+            seed.add(new BoardCreateRequest("제목 " + i, "내용 " + i, "작성자 " + (i % 10)));
+        }
+        boardIds = new ArrayList<>();
+        for (BoardBatchResult result : boardService.createAll(seed)) {
+            boardIds.add(result.getBoardId());
+        }
+
+        createRequest = objectMapper.writeValueAsBytes(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] create() throws Exception {
+        BoardCreateRequest request = objectMapper.readValue(createRequest, BoardCreateRequest.class);
+        return objectMapper.writeValueAsBytes(boardService.create(request));
+    }
+
+    @Benchmark
+    public byte[] get() throws Exception {
+        BoardResponse response = boardService.findById(boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size())));
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] getNotFound() throws Exception {
+        try {
+            return objectMapper.writeValueAsBytes(boardService.findById(-1L));
+        } catch (BoardNotFoundException e) {
+            return objectMapper.writeValueAsBytes(ExceptionResponse.from(e.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public byte[] list() throws Exception {
+        PageRequest pageable = PageRequest.of(ThreadLocalRandom.current().nextInt(SEED_SIZE / PAGE_SIZE), PAGE_SIZE);
+        return objectMapper.writeValueAsBytes(boardService.findAll(pageable));
+    }
+}
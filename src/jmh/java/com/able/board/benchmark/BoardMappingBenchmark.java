@@ -0,0 +1,33 @@
+package com.able.board.benchmark;
+
+import com.able.board.domain.Board;
+import com.able.board.dto.BoardResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardMappingBenchmark {
+
+    private static final String CONTENT = "여러분 ㅎㅇ여";
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = Board.createBoard("안녕하세요", CONTENT, "황철원");
+    }
+
+    @Benchmark
+    public BoardResponse from() {
+        return BoardResponse.from(board, CONTENT);
+    }
+}
@@ -0,0 +1,80 @@
+package com.able.board.benchmark;
+
+import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
+import com.able.board.json.LocalDateTimeJsonComponent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ObjectMapper objectMapper;
+
+    private BoardResponse boardResponse;
+
+    private Page<BoardResponse> boardPage;
+
+    private Page<BoardSummaryResponse> summaryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializers(new LocalDateTimeJsonComponent.Serializer())
+                .modulesToInstall(new BlackbirdModule())
+                .build();
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("여러분 안녕하세요. 게시판 성능 측정용 본문입니다. ");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boardResponse = new BoardResponse(1L, "안녕하세요", content.toString(), "황철원", now, now, 0L);
+
+        List<BoardResponse> boards = new ArrayList<>();
+        List<BoardSummaryResponse> summaries = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            boards.add(new BoardResponse(i, "안녕하세요", content.toString(), "황철원", now, now, 0L));
+            summaries.add(new BoardSummaryResponse(i, "안녕하세요", "황철원", now,
+                    content.substring(0, BoardSummaryResponse.PREVIEW_LENGTH)));
+        }
+        boardPage = new PageImpl<>(boards, PageRequest.of(0, PAGE_SIZE), 1000);
+        summaryPage = new PageImpl<>(summaries, PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public byte[] boardResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(boardResponse);
+    }
+
+    @Benchmark
+    public byte[] boardPage() throws Exception {
+        return objectMapper.writeValueAsBytes(boardPage);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,102 @@
+package com.able.board.benchmark;
+
+import com.able.board.BoardApplication;
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
+import com.able.board.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardServiceBenchmark {
+
+    private static final int SEED_SIZE = 1000;
+    private static final int BATCH_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+
+    private BoardService boardService;
+
+    private List<Long> boardIds;
+
+    private List<BoardCreateRequest> batch;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.org.hibernate.SQL=warn")
+                .run();
+        boardService = context.getBean(BoardService.class);
+
+        List<BoardCreateRequest> seed = new ArrayList<>();
+        for (int i = 0; i < SEED_SIZE; i++) {
+            seed.add(new BoardCreateRequest("제목 " + i, "내용 " + i, "작성자 " + (i % 10)));
+        }
+        boardIds = new ArrayList<>();
+        for (BoardBatchResult result : boardService.createAll(seed)) {
+            boardIds.add(result.getBoardId());
+        }
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new BoardCreateRequest("제목 " + i, "내용 " + i, "작성자"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BoardResponse findById() {
+        return boardService.findById(boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size())));
+    }
+
+    @Benchmark
+    public Page<BoardSummaryResponse> findAll() {
+        return boardService.findAll(PageRequest.of(ThreadLocalRandom.current().nextInt(SEED_SIZE / 10), 10));
+    }
+
+    @Benchmark
+    public BoardResponse create() {
+        return boardService.create(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void createOneByOne(Blackhole blackhole) {
+        for (BoardCreateRequest request : batch) {
+            blackhole.consume(boardService.create(request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<BoardBatchResult> createBatch() {
+        return boardService.createAll(batch);
+    }
+}
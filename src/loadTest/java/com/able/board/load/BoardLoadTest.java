@@ -0,0 +1,280 @@
+package com.able.board.load;
+
+import com.able.board.BoardApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /boards API 에 대한 개방형(open model) 부하 테스트.
+ * 요청은 고정된 도착 간격으로 발행되고 지연 시간은 "발행 예정 시각"부터 측정하므로
+ * 서버가 느려져도 coordinated omission 으로 지연이 가려지지 않는다.
+ * 요청은 JDK HttpClient 로 비동기 전송하므로 부하 발생기 스레드 수와 상관없이 수천 개의 동시 연결을 유지한다
+ * (HTTP/1.1, 진행 중인 요청마다 연결 하나). 5k 이상을 걸 때는 양쪽의 ulimit -n 을 먼저 늘린다.
+ * 서버 메모리/스레드 지표는 측정 구간 동안 주기적으로 모은 평균과 최대값이다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dload.rate=500 -Dload.duration=60 -Dload.slo.p99=50
+ * ./gradlew loadTest -Dload.rate=5000 -Dboard.execution.virtual-threads=true
+ * ./gradlew loadTest -Dload.url=http://localhost:8081
+ * </pre>
+ * load.url 을 지정하면 애플리케이션을 띄우지 않고 이미 구동 중인 인스턴스를 대상으로 한다.
+ * 이 경우 서버 측 메모리/스레드 지표가 부하 발생기와 섞이지 않는다.
+ */
+public class BoardLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+
+    private final String baseUrl;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Long> seededIds = new ArrayList<>();
+
+    private final Queue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    private final LongAdder issued = new LongAdder();
+
+    private final LongAdder finished = new LongAdder();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    BoardLoadTest(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        config.mix.keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.url;
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(BoardApplication.class)
+                    .properties("server.port=0", "logging.level.org.hibernate.SQL=warn",
+                            "board.rate-limit.enabled=false", "server.tomcat.mbeanregistry.enabled=true")
+                    .run(args);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        boolean passed;
+        try {
+            LoadTestReport report = new BoardLoadTest(config, baseUrl).run();
+            report.print(System.out);
+            report.write(new File(config.report));
+            passed = report.meetsSlo();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        seed();
+
+        Operation[] schedule = buildSchedule();
+        ServerMetricsSampler sampler = new ServerMetricsSampler(restTemplate, baseUrl, config.sampleIntervalMillis);
+        boolean sampling = false;
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureFrom;
+            if (measured && !sampling) {
+                sampler.start();
+                sampling = true;
+            }
+
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            issued.increment();
+            execute(operation, intended, measured);
+        }
+        Map<String, Object> server = sampler.stop();
+
+        // 끝나지 않은 요청은 지연 시간에 잡히지 않으므로, 남아 있으면 SLO 와 상관없이 실패로 본다.
+        long unfinished = awaitFinished(TimeUnit.MINUTES.toNanos(1));
+        return new LoadTestReport(config, stats, server, unfinished, peakInFlight.get());
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean measured) {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        CompletableFuture<?> call;
+        try {
+            call = call(operation);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        call.whenComplete((result, failure) -> {
+            if (measured) {
+                stats.get(operation).record(System.nanoTime() - intendedStart, failure == null);
+            }
+            inFlight.decrementAndGet();
+            finished.increment();
+        });
+    }
+
+    private CompletableFuture<?> call(Operation operation) {
+        switch (operation) {
+            case FIND_ALL:
+                int page = ThreadLocalRandom.current().nextInt(Math.max(1, config.seed / 10));
+                return send(request("/boards?page=" + page + "&size=10").GET().build());
+            case FIND_BY_ID:
+                return send(request("/boards/" + randomSeededId()).GET().build());
+            case CREATE:
+                return create().thenAccept(deletableIds::add);
+            case UPDATE:
+                return send(json("PUT", "/boards/" + randomSeededId(), body("수정된 제목", "수정된 내용", null)));
+            case DELETE:
+                Long boardId = deletableIds.poll();
+                CompletableFuture<Long> target = boardId != null ? CompletableFuture.completedFuture(boardId) : create();
+                return target.thenCompose(id -> send(request("/boards/" + id).DELETE().build()));
+            default:
+                throw new IllegalStateException(operation.name());
+        }
+    }
+
+    private long awaitFinished(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (finished.sum() < issued.sum() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return issued.sum() - finished.sum();
+    }
+
+    private void seed() {
+        int totalWeight = config.mix.values().stream().mapToInt(Integer::intValue).sum();
+        int deleteWeight = config.mix.getOrDefault(Operation.DELETE, 0);
+        long expectedDeletes = (long) config.rate * (config.warmupSeconds + config.durationSeconds) * deleteWeight / totalWeight;
+
+        seededIds.addAll(createAll(config.seed));
+        deletableIds.addAll(createAll((int) (expectedDeletes * 11 / 10)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> createAll(int count) {
+        List<Long> boardIds = new ArrayList<>();
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            List<Map<String, String>> requests = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + SEED_BATCH_SIZE); i++) {
+                requests.add(body("제목 " + i, "부하 테스트용 게시글 본문 " + i, "작성자 " + (i % 100)));
+            }
+
+            List<Map<String, Object>> results = restTemplate.postForObject(baseUrl + "/boards:batch", requests, List.class);
+            for (Map<String, Object> result : results) {
+                boardIds.add(((Number) result.get("boardId")).longValue());
+            }
+        }
+        return boardIds;
+    }
+
+    private CompletableFuture<Long> create() {
+        return send(json("POST", "/boards", body("부하 테스트", "부하 테스트용 게시글 본문", "load-test")))
+                .thenApply(response -> ((Number) read(response.body()).get("boardId")).longValue());
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() >= 400) {
+                        throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode());
+                    }
+                    return response;
+                });
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest json(String method, String path, Object body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<?, ?> read(byte[] body) {
+        try {
+            return objectMapper.readValue(body, Map.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private Operation[] buildSchedule() {
+        List<Operation> schedule = new ArrayList<>();
+        config.mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private static Map<String, String> body(String title, String content, String writer) {
+        Map<String, String> body = new HashMap<>();
+        body.put("title", title);
+        body.put("content", content);
+        if (writer != null) {
+            body.put("writer", writer);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,34 @@
+package com.able.board.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모든 값은 {@code -Dload.*} 시스템 프로퍼티로 바꿀 수 있다.
+ */
+class LoadTestConfig {
+
+    final String url = System.getProperty("load.url");
+    final int rate = Integer.getInteger("load.rate", 200);
+    final int durationSeconds = Integer.getInteger("load.duration", 30);
+    final int warmupSeconds = Integer.getInteger("load.warmup", 5);
+    final int seed = Integer.getInteger("load.seed", 1000);
+    final String report = System.getProperty("load.report", "build/reports/load/result.json");
+    final int sampleIntervalMillis = Integer.getInteger("load.sample-interval-ms", 1000);
+    final Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", "findAll=40,findById=40,create=10,update=5,delete=5"));
+    final Double sloP99Millis = parseDouble(System.getProperty("load.slo.p99"));
+    final Double sloErrorRate = parseDouble(System.getProperty("load.slo.error-rate"));
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Operation.fromName(pair[0].trim()), Integer.valueOf(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Double parseDouble(String value) {
+        return value == null || value.isEmpty() ? null : Double.valueOf(value);
+    }
+}
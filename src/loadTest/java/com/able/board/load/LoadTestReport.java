@@ -0,0 +1,95 @@
+package com.able.board.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class LoadTestReport {
+
+    private final LoadTestConfig config;
+
+    private final Map<Operation, OperationStats> operations;
+
+    private final Map<String, Object> server;
+
+    private final long unfinished;
+
+    private final int peakInFlight;
+
+    private final OperationStats total = new OperationStats();
+
+    LoadTestReport(LoadTestConfig config, Map<Operation, OperationStats> operations, Map<String, Object> server,
+                   long unfinished, int peakInFlight) {
+        this.config = config;
+        this.operations = operations;
+        this.server = server;
+        this.unfinished = unfinished;
+        this.peakInFlight = peakInFlight;
+        operations.values().forEach(stats -> stats.addTo(total));
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf("target rate: %d req/s, duration: %ds (warm-up %ds excluded)%n",
+                config.rate, config.durationSeconds, config.warmupSeconds);
+        out.printf("%-10s %9s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "rps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        operations.forEach((operation, stats) -> printRow(out, operation.label(), stats));
+        printRow(out, "total", total);
+        out.printf("peak in-flight requests (connections): %d%n", peakInFlight);
+        if (unfinished > 0) {
+            out.printf("unfinished: %d (1분 안에 끝나지 않음)%n", unfinished);
+        }
+        out.println();
+        server.forEach((name, value) -> out.printf("%-30s %s%n", name, value));
+        out.println();
+    }
+
+    void write(File file) throws IOException {
+        Map<String, Object> operationResults = new LinkedHashMap<>();
+        operations.forEach((operation, stats) -> operationResults.put(operation.label(), stats.toMap(config.durationSeconds)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rate", config.rate);
+        result.put("durationSeconds", config.durationSeconds);
+        result.put("operations", operationResults);
+        result.put("total", total.toMap(config.durationSeconds));
+        result.put("unfinished", unfinished);
+        result.put("peakInFlight", peakInFlight);
+        result.put("server", server);
+
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("리포트 디렉토리를 만들 수 없습니다: " + directory);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+    }
+
+    boolean meetsSlo() {
+        boolean passed = true;
+        if (unfinished > 0) {
+            System.out.printf("실패: 요청 %d건이 끝나지 않았습니다.%n", unfinished);
+            passed = false;
+        }
+        if (config.sloP99Millis != null && total.percentileMillis(99) > config.sloP99Millis) {
+            System.out.printf("SLO 위반: p99 %.2fms > %.2fms%n", total.percentileMillis(99), config.sloP99Millis);
+            passed = false;
+        }
+        if (config.sloErrorRate != null && total.errorRate() > config.sloErrorRate) {
+            System.out.printf("SLO 위반: error rate %.4f > %.4f%n", total.errorRate(), config.sloErrorRate);
+            passed = false;
+        }
+        return passed;
+    }
+
+    private void printRow(PrintStream out, String label, OperationStats stats) {
+        out.printf("%-10s %9d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                label, stats.count(), stats.errors(), (double) stats.count() / config.durationSeconds,
+                stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9), stats.maxMillis());
+    }
+}
@@ -0,0 +1,29 @@
+package com.able.board.load;
+
+enum Operation {
+
+    FIND_ALL("findAll"),
+    FIND_BY_ID("findById"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.label.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + name);
+    }
+}
@@ -0,0 +1,61 @@
+package com.able.board.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class OperationStats {
+
+    private final Histogram histogram = new ConcurrentHistogram(3);
+
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void addTo(OperationStats total) {
+        total.histogram.add(histogram);
+        total.errors.add(errors.sum());
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        return count() == 0 ? 0 : (double) errors() / count();
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    Map<String, Object> toMap(int durationSeconds) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", count());
+        map.put("errors", errors());
+        map.put("errorRate", errorRate());
+        map.put("throughput", (double) count() / durationSeconds);
+        map.put("p50", percentileMillis(50));
+        map.put("p99", percentileMillis(99));
+        map.put("p999", percentileMillis(99.9));
+        map.put("max", maxMillis());
+        return map;
+    }
+}
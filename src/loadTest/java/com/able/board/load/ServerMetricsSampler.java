@@ -0,0 +1,92 @@
+package com.able.board.load;
+
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 /actuator/metrics 를 주기적으로 읽어 지표별 평균과 최대값을 남긴다.
+ * 부하가 끝난 뒤 한 번만 읽으면 정점이 지난 값이 보이므로, 정상 상태(steady phase)에서 표본을 모은다.
+ * tomcat.connections.current 는 server.tomcat.mbeanregistry.enabled=true 일 때만 나온다.
+ */
+class ServerMetricsSampler {
+
+    private static final List<String> METRICS = Arrays.asList(
+            "jvm.memory.used", "jvm.memory.committed", "jvm.threads.live", "jvm.threads.peak", "process.cpu.usage",
+            "tomcat.connections.current", "hikaricp.connections.active", "hikaricp.connections.pending");
+
+    private final RestTemplate restTemplate;
+
+    private final String baseUrl;
+
+    private final long intervalMillis;
+
+    private final Map<String, DoubleSummaryStatistics> samples = new LinkedHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "server-metrics-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ServerMetricsSampler(RestTemplate restTemplate, String baseUrl, long intervalMillis) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.intervalMillis = intervalMillis;
+    }
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    Map<String, Object> stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        synchronized (samples) {
+            for (String name : METRICS) {
+                DoubleSummaryStatistics statistics = samples.get(name);
+                if (statistics == null) {
+                    summary.put(name, null);
+                    continue;
+                }
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("mean", statistics.getAverage());
+                values.put("max", statistics.getMax());
+                values.put("samples", statistics.getCount());
+                summary.put(name, values);
+            }
+        }
+        return summary;
+    }
+
+    private void sample() {
+        for (String name : METRICS) {
+            Double value = read(name);
+            if (value != null) {
+                synchronized (samples) {
+                    samples.computeIfAbsent(name, key -> new DoubleSummaryStatistics()).accept(value);
+                }
+            }
+        }
+    }
+
+    private Double read(String name) {
+        try {
+            Map<?, ?> metric = restTemplate.getForObject(baseUrl + "/actuator/metrics/{name}", Map.class, name);
+            List<?> measurements = (List<?>) metric.get("measurements");
+            return ((Number) ((Map<?, ?>) measurements.get(0)).get("value")).doubleValue();
+        } catch (RestClientException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.able.board.cache;
+
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 인스턴스에서 커밋된 게시글 변경을 다른 인스턴스에 알리고, 다른 인스턴스가 보낸 무효화로 로컬 캐시(board, boardWriter)를 지우고
+ * 목록 JSON 캐시(BoardJsonCache)의 버전을 올린다.
+ * 요청 스레드는 큐에 넣기만 하고, 전송 스레드가 쌓인 만큼 한 번에 묶어 보낸다.
+ * 큐가 가득 차면 버리고(board.cache.invalidation.dropped) 로컬 TTL 에 맡긴다.
+ */
+@Slf4j
+public class BoardCacheInvalidator implements AutoCloseable {
+
+    private static final String BOARD_CACHE = "board";
+
+    private static final int MAX_BATCH = 500;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final CacheInvalidationTransport transport;
+
+    private final Cache boardCache;
+
+    private final BoardWriterCache boardWriterCache;
+
+    private final BoardJsonCache boardJsonCache;
+
+    private final BlockingQueue<CacheInvalidation> pending;
+
+    private final Thread sender;
+
+    private final Counter published;
+
+    private final Counter received;
+
+    private final Counter dropped;
+
+    private final Timer lag;
+
+    public BoardCacheInvalidator(CacheInvalidationTransport transport,
+                                 CacheManager cacheManager,
+                                 BoardWriterCache boardWriterCache,
+                                 BoardJsonCache boardJsonCache,
+                                 MeterRegistry meterRegistry,
+                                 int queueCapacity) {
+        this.transport = transport;
+        this.boardCache = cacheManager.getCache(BOARD_CACHE);
+        this.boardWriterCache = boardWriterCache;
+        this.boardJsonCache = boardJsonCache;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.published = meterRegistry.counter("board.cache.invalidation.published");
+        this.received = meterRegistry.counter("board.cache.invalidation.received");
+        this.dropped = meterRegistry.counter("board.cache.invalidation.dropped");
+        this.lag = Timer.builder("board.cache.invalidation.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        transport.subscribe(this::invalidate);
+        this.sender = new Thread(this::send, "cache-invalidation-sender");
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        enqueue(event.getBoardId(), event.getWriter());
+    }
+
+    /**
+     * 새로 만든 게시글은 다른 인스턴스의 board 캐시에 있을 수 없으므로, 작성자별 첫 페이지만 작성자 단위로 한 번씩 비운다.
+     */
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        for (String writer : event.getWriters()) {
+            enqueue(null, writer);
+        }
+    }
+
+    private void enqueue(Long boardId, String writer) {
+        if (!pending.offer(new CacheInvalidation(origin, boardId, writer, System.currentTimeMillis()))) {
+            dropped.increment();
+        }
+    }
+
+    private void send() {
+        List<CacheInvalidation> batch = new ArrayList<>(MAX_BATCH);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            pending.drainTo(batch, MAX_BATCH - 1);
+            try {
+                transport.publish(batch);
+                published.increment(batch.size());
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 {}건 전송 실패: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private void invalidate(List<CacheInvalidation> invalidations) {
+        long now = System.currentTimeMillis();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (origin.equals(invalidation.getOrigin())) {
+                continue;
+            }
+            boardJsonCache.invalidateLists();
+            if (invalidation.getBoardId() != null) {
+                boardCache.evictIfPresent(invalidation.getBoardId());
+            }
+            boardWriterCache.evict(invalidation.getWriter());
+            received.increment();
+            lag.record(Math.max(0, now - invalidation.getPublishedAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        sender.interrupt();
+    }
+}
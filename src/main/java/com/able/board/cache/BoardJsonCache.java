@@ -0,0 +1,91 @@
+package com.able.board.cache;
+
+import com.able.board.dto.BoardResponse;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 직렬화가 끝난 UTF-8 JSON 응답을 보관한다.
+ * 단건은 (boardId, updatedAt, viewCount), 목록은 (인스턴스, 목록 버전, 페이지 조건)이 키이므로
+ * 이전 버전의 항목은 무효화 없이 만료된다.
+ * 단건 ETag 는 조회수를 빼고 (boardId, updatedAt) 만으로 만든 약한 ETag 다. 조회수만 바뀐 응답은 304 로 돌려준다.
+ */
+@Component
+public class BoardJsonCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, byte[]> cache;
+
+    private final String instanceId = Long.toHexString(System.currentTimeMillis());
+
+    private final AtomicLong listVersion = new AtomicLong();
+
+    public BoardJsonCache(ObjectMapper objectMapper,
+                          @Value("${board.json-cache.maximum-bytes:67108864}") long maximumBytes,
+                          @Value("${board.json-cache.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, byte[] value) -> value.length)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public String etag(BoardResponse response) {
+        return "W/\"" + response.getBoardId() + "-" + response.getUpdatedAt() + "\"";
+    }
+
+    public String key(BoardResponse response) {
+        return response.getBoardId() + "-" + response.getUpdatedAt() + "-" + response.getViewCount();
+    }
+
+    public String listEtag(Pageable pageable) {
+        String sort = pageable.getSort().toString().replace(' ', '_');
+        return "\"list-" + instanceId + "-" + listVersion.get() + "-"
+                + pageable.getPageNumber() + "-" + pageable.getPageSize() + "-" + sort + "\"";
+    }
+
+    public byte[] get(String etag, Supplier<?> body) {
+        return cache.get(etag, key -> write(body.get()));
+    }
+
+    /**
+     * 목록 버전을 올려 이전 목록 응답과 ETag 를 모두 쓸 수 없게 한다.
+     * 다른 인스턴스의 변경은 BoardCacheInvalidator 가 무효화를 받을 때 부른다.
+     */
+    public void invalidateLists() {
+        listVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidateLists();
+    }
+
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        invalidateLists();
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
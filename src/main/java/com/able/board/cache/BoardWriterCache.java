@@ -0,0 +1,45 @@
+package com.able.board.cache;
+
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 작성자별 첫 페이지 캐시(boardWriter)를 그 작성자의 글이 바뀔 때 비운다. 삭제 이벤트도 작성자를 담아 발행한다.
+ * 커밋 이후에 호출되므로, 트랜잭션 인지 캐시의 evict(커밋 시점으로 미뤄짐) 대신 즉시 지우는 evictIfPresent 를 쓴다.
+ */
+@Component
+public class BoardWriterCache {
+
+    public static final String CACHE_NAME = "boardWriter";
+
+    public static final int FIRST_PAGE_SIZE = 10;
+
+    private final Cache cache;
+
+    public BoardWriterCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        evict(event.getWriter());
+    }
+
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        event.getWriters().forEach(cache::evictIfPresent);
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화({@link BoardCacheInvalidator})도 같은 규칙으로 지운다.
+     */
+    public void evict(String writer) {
+        if (writer != null) {
+            cache.evictIfPresent(writer);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.able.board.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 인스턴스로 보내는 게시글 캐시 무효화 한 건.
+ * origin 은 보낸 인스턴스, publishedAt 은 보낸 시각(epoch millis)으로 받는 쪽에서 지연 시간을 잴 때 쓴다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidation {
+
+    private String origin;
+
+    private Long boardId;
+
+    private String writer;
+
+    private long publishedAt;
+}
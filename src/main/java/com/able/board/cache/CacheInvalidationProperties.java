@@ -0,0 +1,52 @@
+package com.able.board.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("board.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    public enum Transport {
+        NONE, UDP, OUTBOX
+    }
+
+    private Transport transport = Transport.NONE;
+
+    private int queueCapacity = 10000;
+
+    private Udp udp = new Udp();
+
+    private Outbox outbox = new Outbox();
+
+    @Getter
+    @Setter
+    public static class Udp {
+
+        private int port;
+
+        /**
+         * host:port 목록
+         */
+        private List<String> peers = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        private long pollIntervalMs = 200;
+
+        private int batchSize = 500;
+
+        private Duration retention = Duration.ofHours(1);
+
+        private long cleanupIntervalMs = 600000;
+    }
+}
@@ -0,0 +1,18 @@
+package com.able.board.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화를 다른 인스턴스에 전달하는 통로.
+ * 전달이 보장되지 않을 수 있으므로(UDP 유실, outbox 폴링 누락) 로컬 캐시 TTL 을 짧게 두어 최악의 경우를 제한한다.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(List<CacheInvalidation> invalidations);
+
+    /**
+     * 다른 인스턴스가 보낸 무효화를 받을 리스너를 등록한다. 자기 자신이 보낸 것이 섞여 올 수 있다.
+     */
+    void subscribe(Consumer<List<CacheInvalidation>> listener);
+}
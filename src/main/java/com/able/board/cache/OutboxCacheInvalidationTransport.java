@@ -0,0 +1,96 @@
+package com.able.board.cache;
+
+import com.able.board.domain.BoardCacheInvalidation;
+import com.able.board.repository.BoardCacheInvalidationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 공유 DB 의 board_cache_invalidation 테이블을 outbox 로 쓴다. 브로커 없이 유실 없이 전달되지만 폴링 주기만큼 늦다.
+ * 커밋 이후에 호출되므로 끝난 트랜잭션에 묶이지 않도록 새 트랜잭션(REQUIRES_NEW)에서 저장한다.
+ * 새로 뜬 인스턴스는 캐시가 비어 있으므로 이전 기록은 건너뛰고 시작 시점의 마지막 id 부터 읽는다.
+ */
+public class OutboxCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final BoardCacheInvalidationRepository repository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final Duration retention;
+
+    private volatile Consumer<List<CacheInvalidation>> listener = invalidations -> {
+    };
+
+    private long lastId;
+
+    public OutboxCacheInvalidationTransport(BoardCacheInvalidationRepository repository,
+                                            PlatformTransactionManager transactionManager,
+                                            int batchSize,
+                                            Duration retention) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.lastId = repository.findMaxId();
+    }
+
+    @Override
+    public void publish(List<CacheInvalidation> invalidations) {
+        List<BoardCacheInvalidation> rows = new ArrayList<>(invalidations.size());
+        for (CacheInvalidation invalidation : invalidations) {
+            rows.add(BoardCacheInvalidation.of(invalidation.getOrigin(), invalidation.getBoardId(),
+                    invalidation.getWriter(), toLocalDateTime(invalidation.getPublishedAt())));
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.saveAll(rows));
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+        this.listener = listener;
+    }
+
+    @Scheduled(fixedDelayString = "${board.cache.invalidation.outbox.poll-interval-ms:200}")
+    public synchronized void poll() {
+        List<BoardCacheInvalidation> rows;
+        do {
+            rows = repository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<CacheInvalidation> invalidations = new ArrayList<>(rows.size());
+            for (BoardCacheInvalidation row : rows) {
+                invalidations.add(new CacheInvalidation(row.getOrigin(), row.getBoardId(), row.getWriter(),
+                        toEpochMilli(row.getPublishedAt())));
+            }
+            listener.accept(invalidations);
+            lastId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${board.cache.invalidation.outbox.cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        repository.deleteByPublishedAtBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
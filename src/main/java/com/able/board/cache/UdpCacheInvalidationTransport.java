@@ -0,0 +1,95 @@
+package com.able.board.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 같은 호스트의 블루/그린 인스턴스끼리 UDP 로 무효화를 주고받는다. 브로커가 필요 없는 대신 유실될 수 있다.
+ * 한 데이터그램에 최대 {@link #MAX_PER_PACKET} 건을 JSON 배열로 담는다.
+ */
+@Slf4j
+public class UdpCacheInvalidationTransport implements CacheInvalidationTransport, AutoCloseable {
+
+    private static final int MAX_PER_PACKET = 50;
+
+    private static final int MAX_PACKET_BYTES = 65507;
+
+    private static final TypeReference<List<CacheInvalidation>> INVALIDATIONS = new TypeReference<List<CacheInvalidation>>() {
+    };
+
+    private final DatagramSocket socket;
+
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Consumer<List<CacheInvalidation>> listener = invalidations -> {
+    };
+
+    public UdpCacheInvalidationTransport(int port, List<String> peers, ObjectMapper objectMapper) throws SocketException {
+        this.socket = new DatagramSocket(port);
+        for (String peer : peers) {
+            int separator = peer.lastIndexOf(':');
+            this.peers.add(new InetSocketAddress(peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1))));
+        }
+        this.objectMapper = objectMapper;
+
+        Thread receiver = new Thread(this::receive, "cache-invalidation-udp");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void publish(List<CacheInvalidation> invalidations) {
+        for (int from = 0; from < invalidations.size(); from += MAX_PER_PACKET) {
+            List<CacheInvalidation> chunk = invalidations.subList(from, Math.min(from + MAX_PER_PACKET, invalidations.size()));
+            try {
+                byte[] data = objectMapper.writeValueAsBytes(chunk);
+                for (InetSocketAddress peer : peers) {
+                    socket.send(new DatagramPacket(data, data.length, peer));
+                }
+            } catch (IOException e) {
+                log.warn("캐시 무효화 전송 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+        this.listener = listener;
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_PACKET_BYTES];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                listener.accept(objectMapper.readValue(buffer, 0, packet.getLength(), INVALIDATIONS));
+            } catch (IOException | RuntimeException e) {
+                if (!socket.isClosed()) {
+                    log.warn("캐시 무효화 수신 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+}
@@ -0,0 +1,63 @@
+package com.able.board.config;
+
+import com.able.board.cache.BoardCacheInvalidator;
+import com.able.board.cache.BoardJsonCache;
+import com.able.board.cache.BoardWriterCache;
+import com.able.board.cache.CacheInvalidationProperties;
+import com.able.board.cache.CacheInvalidationTransport;
+import com.able.board.cache.OutboxCacheInvalidationTransport;
+import com.able.board.cache.UdpCacheInvalidationTransport;
+import com.able.board.repository.BoardCacheInvalidationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.SocketException;
+
+@Configuration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheInvalidationConfig {
+
+    /**
+     * 다른 인스턴스의 무효화를 받으려면 첫 요청 전부터 수신하고 있어야 하므로 지연 초기화하지 않는다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter cacheInvalidationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(CacheInvalidationTransport.class, BoardCacheInvalidator.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.cache.invalidation.transport", havingValue = "udp")
+    public UdpCacheInvalidationTransport udpCacheInvalidationTransport(CacheInvalidationProperties properties,
+                                                                       ObjectMapper objectMapper) throws SocketException {
+        return new UdpCacheInvalidationTransport(properties.getUdp().getPort(), properties.getUdp().getPeers(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.cache.invalidation.transport", havingValue = "outbox")
+    public OutboxCacheInvalidationTransport outboxCacheInvalidationTransport(CacheInvalidationProperties properties,
+                                                                             BoardCacheInvalidationRepository repository,
+                                                                             PlatformTransactionManager transactionManager) {
+        CacheInvalidationProperties.Outbox outbox = properties.getOutbox();
+        return new OutboxCacheInvalidationTransport(repository, transactionManager, outbox.getBatchSize(), outbox.getRetention());
+    }
+
+    @Bean
+    @ConditionalOnBean(CacheInvalidationTransport.class)
+    public BoardCacheInvalidator boardCacheInvalidator(CacheInvalidationTransport transport,
+                                                       CacheManager cacheManager,
+                                                       BoardWriterCache boardWriterCache,
+                                                       BoardJsonCache boardJsonCache,
+                                                       MeterRegistry meterRegistry,
+                                                       CacheInvalidationProperties properties) {
+        return new BoardCacheInvalidator(transport, cacheManager, boardWriterCache, boardJsonCache, meterRegistry,
+                properties.getQueueCapacity());
+    }
+}
@@ -0,0 +1,19 @@
+package com.able.board.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * getter/setter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 바꾼다.
+     * Module 빈은 Boot 가 ObjectMapper 에 자동으로 등록한다.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
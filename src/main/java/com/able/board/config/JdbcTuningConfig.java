@@ -0,0 +1,44 @@
+package com.able.board.config;
+
+import com.able.board.datasource.AdaptivePoolSizer;
+import com.able.board.datasource.HikariPoolTuner;
+import com.able.board.datasource.JdbcTuningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JdbcTuningProperties.class)
+public class JdbcTuningConfig {
+
+    /**
+     * BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 설정은 ObjectProvider 로 풀을 만질 때 꺼낸다.
+     */
+    @Bean
+    public static HikariPoolTuner hikariPoolTuner(ObjectProvider<JdbcTuningProperties> properties) {
+        return new HikariPoolTuner(properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCacheHibernateProperties(JdbcTuningProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE,
+                    properties.getQueryPlanCache().getMaxSize());
+            hibernateProperties.put(AvailableSettings.QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE,
+                    properties.getQueryPlanCache().getParameterMetadataMaxSize());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.jdbc.pool.adaptive.enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(HikariPoolTuner hikariPoolTuner,
+                                               JdbcTuningProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new AdaptivePoolSizer(hikariPoolTuner, properties, meterRegistry);
+    }
+}
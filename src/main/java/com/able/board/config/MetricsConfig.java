@@ -0,0 +1,41 @@
+package com.able.board.config;
+
+import com.able.board.metrics.StatementMetricsInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jpa.HibernateQueryMetrics;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernateProperties(MeterRegistry meterRegistry,
+                                                                         @Value("${board.slow-query-threshold-ms:300}") long slowQueryThresholdMs) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementMetricsInspector(meterRegistry));
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryThresholdMs);
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton hibernateQueryMetrics(EntityManagerFactory entityManagerFactory,
+                                                            MeterRegistry meterRegistry) {
+        return () -> new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory", Collections.emptyList()).bindTo(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.able.board.config;
+
+import com.able.board.datasource.ClientContextFilter;
+import com.able.board.datasource.HikariPoolTuner;
+import com.able.board.datasource.ReplicationRoutingDataSource;
+import com.able.board.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(RoutingDataSourceProperties properties,
+                                                         HikariPoolTuner hikariPoolTuner,
+                                                         MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        DataSource primary = createPool("primary", properties.getPrimary(), metricsTrackerFactory, hikariPoolTuner);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(createPool("replica-" + i, properties.getReplicas().get(i), metricsTrackerFactory, hikariPoolTuner));
+        }
+        return new ReplicationRoutingDataSource(primary, replicas, properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientContextFilter> clientContextFilter() {
+        FilterRegistrationBean<ClientContextFilter> registration = new FilterRegistrationBean<>(new ClientContextFilter());
+        registration.addUrlPatterns("/boards/*", "/boards");
+        return registration;
+    }
+
+    private static HikariDataSource createPool(String name, RoutingDataSourceProperties.Pool pool,
+                                               MicrometerMetricsTrackerFactory metricsTrackerFactory,
+                                               HikariPoolTuner hikariPoolTuner) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(pool.getUrl());
+        dataSource.setUsername(pool.getUsername());
+        dataSource.setPassword(pool.getPassword());
+        if (pool.getDriverClassName() != null) {
+            dataSource.setDriverClassName(pool.getDriverClassName());
+        }
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        hikariPoolTuner.tune(dataSource);
+        // 풀마다 지정한 크기가 board.jdbc.pool 공통 설정보다 우선한다.
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,54 @@
+package com.able.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * board.execution.virtual-threads=true 이면 Tomcat 요청을 가상 스레드에서 처리한다.
+ * 소스 호환성(1.8)을 유지하기 위해 JDK 21 API 는 리플렉션으로 호출하며,
+ * 지원하지 않는 JDK 에서는 기동을 중단한다.
+ * Tomcat 은 밖에서 넘겨받은 실행기를 닫지 않으므로, 컨텍스트가 닫힐 때(웹 서버가 멈춘 뒤) 여기서 닫는다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "board.execution.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * 실행기를 빈으로 등록하면 Executor 빈이 생겨 Spring Boot 의 applicationTaskExecutor 자동 구성이 빠지므로,
+     * 빈의 destroyMethod 대신 설정 클래스의 소멸 콜백에서 닫는다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. (현재 "
+                    + System.getProperty("java.version") + ")", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.able.board.controller;
 
+import com.able.board.cache.BoardJsonCache;
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardBatchUpdateRequest;
 import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardCursorResponse;
+import com.able.board.dto.BoardExportFormat;
+import com.able.board.dto.BoardImportResponse;
 import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
 import com.able.board.dto.BoardUpdateRequest;
+import com.able.board.service.BoardExportService;
+import com.able.board.service.BoardImportService;
 import com.able.board.service.BoardService;
+import com.able.board.stream.BoardEventStream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.env.Environment;
@@ -11,18 +21,32 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class BoardController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
     private final BoardService boardService;
+    private final BoardExportService boardExportService;
+    private final BoardImportService boardImportService;
+    private final BoardJsonCache boardJsonCache;
+    private final BoardEventStream boardEventStream;
     private final Environment env;
 
     @GetMapping("/profile")
@@ -37,8 +61,12 @@ public class BoardController {
 
 
     @PostMapping("/boards")
-    public ResponseEntity<BoardResponse> create(@RequestBody @Valid BoardCreateRequest request) {
-        return ResponseEntity.ok(boardService.create(request));
+    public ResponseEntity<BoardResponse> create(@RequestBody @Valid BoardCreateRequest request,
+                                                @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(boardService.create(request));
+        }
+        return ResponseEntity.ok(boardService.create(request, idempotencyKey));
     }
 
     @PutMapping("/boards/{boardId}")
@@ -53,13 +81,84 @@ public class BoardController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @PostMapping("/boards:batch")
+    public ResponseEntity<List<BoardBatchResult>> createAll(@RequestBody List<BoardCreateRequest> requests) {
+        return ResponseEntity.ok(boardService.createAll(requests));
+    }
+
+    @PutMapping("/boards:batch")
+    public ResponseEntity<List<BoardBatchResult>> updateAll(@RequestBody List<BoardBatchUpdateRequest> requests) {
+        return ResponseEntity.ok(boardService.updateAll(requests));
+    }
+
+    @DeleteMapping("/boards:batch")
+    public ResponseEntity<List<BoardBatchResult>> deleteAll(@RequestBody List<Long> boardIds) {
+        return ResponseEntity.ok(boardService.deleteAll(boardIds));
+    }
+
+    @PostMapping(value = "/boards:import", consumes = "application/x-ndjson")
+    public ResponseEntity<BoardImportResponse> importBoards(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(boardImportService.importBoards(request.getInputStream()));
+    }
+
     @GetMapping("/boards")
-    public ResponseEntity<Page<BoardResponse>> findAll(@PageableDefault(size = 10, page = 0) Pageable pageable) {
-        return ResponseEntity.ok(boardService.findAll(pageable));
+    public ResponseEntity<byte[]> findAll(@PageableDefault(size = 10, page = 0) Pageable pageable,
+                                          WebRequest webRequest) {
+        String etag = boardJsonCache.listEtag(pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(boardJsonCache.get(etag, () -> boardService.findAll(pageable)));
+    }
+
+    @GetMapping(value = "/boards", params = {"cursor", "!writer"})
+    public ResponseEntity<BoardCursorResponse> findAllByCursor(@RequestParam String cursor,
+                                                               @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(boardService.findAllByCursor(cursor, size));
+    }
+
+    @GetMapping("/boards/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        BoardExportFormat exportFormat = BoardExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"boards." + exportFormat.getExtension() + "\"");
+        boardExportService.export(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/boards", params = "writer")
+    public ResponseEntity<BoardCursorResponse> findAllByWriter(@RequestParam String writer,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(boardService.findAllByWriter(writer, cursor, size));
+    }
+
+    @GetMapping(value = "/boards/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        return boardEventStream.subscribe(lastEventId);
+    }
+
+    @GetMapping("/boards/search")
+    public ResponseEntity<Page<BoardSummaryResponse>> search(@RequestParam("q") String query,
+                                                             @PageableDefault(size = 10, page = 0) Pageable pageable) {
+        return ResponseEntity.ok(boardService.search(query, pageable));
     }
 
     @GetMapping("/boards/{boardId}")
-    public ResponseEntity<BoardResponse> findById(@PathVariable Long boardId) {
-        return ResponseEntity.ok(boardService.findById(boardId));
+    public ResponseEntity<byte[]> findById(@PathVariable Long boardId, WebRequest webRequest) {
+        BoardResponse response = boardService.findById(boardId);
+        boardService.increaseViewCount(boardId);
+        String etag = boardJsonCache.etag(response);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(boardJsonCache.get(boardJsonCache.key(response), () -> response));
     }
 }
@@ -0,0 +1,109 @@
+package com.able.board.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀마다 직전 구간의 평균 커넥션 대기 시간과 사용률을 보고 maximumPoolSize 를 min-size ~ max-size 안에서 조정한다.
+ * 대기가 생기면 바로 늘리고, 한가한 상태가 여러 번 이어질 때만 한 단계씩 줄여 크기가 출렁이지 않게 한다.
+ * minimumIdle 이 maximumPoolSize 와 같던 고정 크기 풀은 조정 후에도 고정 크기로 유지한다.
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final HikariPoolTuner poolTuner;
+
+    private final JdbcTuningProperties.Adaptive adaptive;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long waitThresholdNanos;
+
+    private final Map<String, PoolState> states = new HashMap<>();
+
+    public AdaptivePoolSizer(HikariPoolTuner poolTuner, JdbcTuningProperties properties, MeterRegistry meterRegistry) {
+        this.poolTuner = poolTuner;
+        this.adaptive = properties.getPool().getAdaptive();
+        this.meterRegistry = meterRegistry;
+        this.waitThresholdNanos = adaptive.getWaitThreshold().toNanos();
+    }
+
+    @Scheduled(fixedDelayString = "${board.jdbc.pool.adaptive.check-interval-ms:5000}")
+    public synchronized void adjust() {
+        for (HikariDataSource dataSource : poolTuner.getPools()) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                continue;
+            }
+            PoolState state = states.computeIfAbsent(dataSource.getPoolName(), name -> new PoolState());
+            double averageWaitNanos = state.averageWaitNanos(acquireTimer(dataSource.getPoolName()));
+
+            HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+            int size = config.getMaximumPoolSize();
+            int target = size;
+            if (pool.getThreadsAwaitingConnection() > 0 || averageWaitNanos > waitThresholdNanos) {
+                target = Math.min(adaptive.getMaxSize(), size + adaptive.getGrowStep());
+                state.idleChecks = 0;
+            } else if ((double) pool.getActiveConnections() / size < adaptive.getShrinkUtilization()) {
+                if (++state.idleChecks >= adaptive.getShrinkAfterChecks()) {
+                    target = Math.max(adaptive.getMinSize(), size - adaptive.getShrinkStep());
+                    state.idleChecks = 0;
+                }
+            } else {
+                state.idleChecks = 0;
+            }
+
+            if (target != size) {
+                resize(dataSource.getPoolName(), config, size, target);
+            }
+        }
+    }
+
+    private void resize(String poolName, HikariConfigMXBean config, int size, int target) {
+        boolean fixedSize = config.getMinimumIdle() >= size;
+        config.setMaximumPoolSize(target);
+        if (fixedSize || config.getMinimumIdle() > target) {
+            config.setMinimumIdle(target);
+        }
+        meterRegistry.counter("board.jdbc.pool.resizes", "pool", poolName,
+                "direction", target > size ? "grow" : "shrink").increment();
+        log.info("커넥션 풀 크기 조정 pool={} {} -> {}", poolName, size, target);
+    }
+
+    private Timer acquireTimer(String poolName) {
+        return meterRegistry.find(ACQUIRE_TIMER).tag("pool", poolName).timer();
+    }
+
+    private static class PoolState {
+
+        private long lastCount;
+
+        private double lastTotalNanos;
+
+        private int idleChecks;
+
+        private double averageWaitNanos(Timer timer) {
+            if (timer == null) {
+                return 0;
+            }
+            long count = timer.count();
+            double totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+            long acquired = count - lastCount;
+            double waitedNanos = totalNanos - lastTotalNanos;
+            lastCount = count;
+            lastTotalNanos = totalNanos;
+            return acquired > 0 ? waitedNanos / acquired : 0;
+        }
+    }
+}
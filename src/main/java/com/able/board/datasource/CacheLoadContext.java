@@ -0,0 +1,31 @@
+package com.able.board.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 공유 캐시를 채우는 조회임을 표시한다. 다른 클라이언트의 쓰기 직후 지연된 레플리카에서 읽은 값이 캐시에 다시 들어가지 않도록,
+ * ReplicationRoutingDataSource 가 read-your-writes 기간 동안 이 조회를 프라이머리로 보낸다.
+ */
+public final class CacheLoadContext {
+
+    private static final ThreadLocal<Boolean> LOADING = new ThreadLocal<>();
+
+    private CacheLoadContext() {
+    }
+
+    public static boolean isLoading() {
+        return LOADING.get() != null;
+    }
+
+    public static <T> T load(Supplier<T> loader) {
+        if (isLoading()) {
+            return loader.get();
+        }
+        LOADING.set(Boolean.TRUE);
+        try {
+            return loader.get();
+        } finally {
+            LOADING.remove();
+        }
+    }
+}
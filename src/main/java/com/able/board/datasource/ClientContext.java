@@ -0,0 +1,21 @@
+package com.able.board.datasource;
+
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static String current() {
+        return CLIENT.get();
+    }
+
+    public static void set(String client) {
+        CLIENT.set(client);
+    }
+
+    public static void clear() {
+        CLIENT.remove();
+    }
+}
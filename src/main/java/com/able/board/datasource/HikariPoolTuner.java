@@ -0,0 +1,77 @@
+package com.able.board.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * board.jdbc.* 설정을 Hikari 풀에 적용하고, 적용한 풀을 기억해 둔다.
+ * 스프링 빈으로 만들어진 풀은 BeanPostProcessor 로, 라우팅 데이터소스 내부의 풀은 {@link #tune} 으로 직접 넘겨받는다.
+ * 문장 캐시는 드라이버마다 설정 이름이 달라 jdbcUrl 로 벤더를 구분해 드라이버 속성으로 넣는다.
+ */
+@Slf4j
+public class HikariPoolTuner implements BeanPostProcessor {
+
+    private final ObjectProvider<JdbcTuningProperties> propertiesProvider;
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    public HikariPoolTuner(ObjectProvider<JdbcTuningProperties> propertiesProvider) {
+        this.propertiesProvider = propertiesProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource) {
+            tune((HikariDataSource) bean);
+        }
+        return bean;
+    }
+
+    public void tune(HikariDataSource dataSource) {
+        JdbcTuningProperties properties = propertiesProvider.getObject();
+        JdbcTuningProperties.Pool pool = properties.getPool();
+        if (pool.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        }
+        if (pool.getMinimumIdle() != null) {
+            dataSource.setMinimumIdle(pool.getMinimumIdle());
+        }
+        if (pool.getConnectionTimeout() != null) {
+            dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        }
+
+        if (dataSource.isRunning()) {
+            log.warn("이미 시작된 풀이라 문장 캐시 설정을 적용하지 않습니다: {}", dataSource.getPoolName());
+        } else if (properties.getStatementCache().isEnabled()) {
+            applyStatementCache(dataSource, properties.getStatementCache());
+        }
+        pools.add(dataSource);
+    }
+
+    public List<HikariDataSource> getPools() {
+        return Collections.unmodifiableList(pools);
+    }
+
+    private static void applyStatementCache(HikariDataSource dataSource, JdbcTuningProperties.StatementCache cache) {
+        String url = dataSource.getJdbcUrl();
+        if (url == null) {
+            return;
+        }
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(cache.getSize()));
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(cache.getSqlLimit()));
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+        } else if (url.startsWith("jdbc:postgresql:")) {
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(cache.getSize()));
+        } else if (url.startsWith("jdbc:h2:")) {
+            dataSource.addDataSourceProperty("QUERY_CACHE_SIZE", String.valueOf(cache.getSize()));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.able.board.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스별 풀 크기를 맞출 때 보는 화면.
+ * 풀 설정과 현재 사용량, 문장 캐시 설정, Hibernate 쿼리 플랜 캐시 적중률을 한 번에 보여준다.
+ * 드라이버의 문장 캐시는 적중 횟수를 JDBC 로 노출하지 않으므로 Hibernate 가 요청한 prepareStatement 횟수만 함께 보여준다.
+ */
+@Component
+@Endpoint(id = "boardjdbc")
+@RequiredArgsConstructor
+public class JdbcTuningEndpoint {
+
+    private final HikariPoolTuner poolTuner;
+    private final JdbcTuningProperties properties;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("pools", pools());
+        status.put("adaptive", adaptive());
+        status.put("statementCache", statementCache(statistics));
+        status.put("queryPlanCache", queryPlanCache(statistics));
+        return status;
+    }
+
+    private List<Map<String, Object>> pools() {
+        List<Map<String, Object>> pools = new ArrayList<>();
+        for (HikariDataSource dataSource : poolTuner.getPools()) {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("name", dataSource.getPoolName());
+            pool.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+            pool.put("minimumIdle", dataSource.getMinimumIdle());
+            pool.put("connectionTimeoutMillis", dataSource.getConnectionTimeout());
+            pool.put("dataSourceProperties", dataSource.getDataSourceProperties().keySet());
+
+            HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+            if (poolMXBean != null) {
+                pool.put("active", poolMXBean.getActiveConnections());
+                pool.put("idle", poolMXBean.getIdleConnections());
+                pool.put("total", poolMXBean.getTotalConnections());
+                pool.put("threadsAwaiting", poolMXBean.getThreadsAwaitingConnection());
+                pool.put("utilization", ratio(poolMXBean.getActiveConnections(), dataSource.getMaximumPoolSize()));
+            }
+
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", dataSource.getPoolName()).timer();
+            if (acquire != null) {
+                pool.put("acquireCount", acquire.count());
+                pool.put("acquireMeanMillis", acquire.mean(TimeUnit.MILLISECONDS));
+                pool.put("acquireMaxMillis", acquire.max(TimeUnit.MILLISECONDS));
+            }
+            pools.add(pool);
+        }
+        return pools;
+    }
+
+    private Map<String, Object> adaptive() {
+        JdbcTuningProperties.Adaptive adaptive = properties.getPool().getAdaptive();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", adaptive.isEnabled());
+        result.put("minSize", adaptive.getMinSize());
+        result.put("maxSize", adaptive.getMaxSize());
+        result.put("waitThresholdMillis", adaptive.getWaitThreshold().toMillis());
+        result.put("shrinkUtilization", adaptive.getShrinkUtilization());
+        return result;
+    }
+
+    private Map<String, Object> statementCache(Statistics statistics) {
+        JdbcTuningProperties.StatementCache cache = properties.getStatementCache();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", cache.isEnabled());
+        result.put("size", cache.getSize());
+        result.put("sqlLimit", cache.getSqlLimit());
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private Map<String, Object> queryPlanCache(Statistics statistics) {
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxSize", properties.getQueryPlanCache().getMaxSize());
+        result.put("parameterMetadataMaxSize", properties.getQueryPlanCache().getParameterMetadataMaxSize());
+        result.put("hits", hits);
+        result.put("misses", misses);
+        result.put("hitRate", ratio(hits, hits + misses));
+        return result;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+}
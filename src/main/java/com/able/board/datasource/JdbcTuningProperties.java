@@ -0,0 +1,84 @@
+package com.able.board.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("board.jdbc")
+public class JdbcTuningProperties {
+
+    private Pool pool = new Pool();
+
+    private StatementCache statementCache = new StatementCache();
+
+    private QueryPlanCache queryPlanCache = new QueryPlanCache();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * 비어 있으면 spring.datasource.hikari.* (라우팅 풀은 board.datasource.*) 설정을 그대로 쓴다.
+         */
+        private Integer maximumPoolSize;
+
+        private Integer minimumIdle;
+
+        private Duration connectionTimeout;
+
+        private Adaptive adaptive = new Adaptive();
+    }
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        private boolean enabled;
+
+        private int minSize = 5;
+
+        private int maxSize = 30;
+
+        private long checkIntervalMs = 5000;
+
+        /**
+         * 직전 구간의 평균 커넥션 대기 시간이 이 값을 넘거나 대기 스레드가 있으면 풀을 늘린다.
+         */
+        private Duration waitThreshold = Duration.ofMillis(20);
+
+        private int growStep = 2;
+
+        /**
+         * 사용률(active / maximum)이 이 값보다 낮은 점검이 shrinkAfterChecks 번 이어지면 풀을 줄인다.
+         */
+        private double shrinkUtilization = 0.5;
+
+        private int shrinkAfterChecks = 6;
+
+        private int shrinkStep = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class StatementCache {
+
+        private boolean enabled = true;
+
+        private int size = 250;
+
+        private int sqlLimit = 2048;
+    }
+
+    @Getter
+    @Setter
+    public static class QueryPlanCache {
+
+        private int maxSize = 2048;
+
+        private int parameterMetadataMaxSize = 128;
+    }
+}
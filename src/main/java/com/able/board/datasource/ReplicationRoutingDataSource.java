@@ -0,0 +1,139 @@
+package com.able.board.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 상태인 레플리카에 라운드 로빈으로, 그 외는 프라이머리로 보낸다.
+ * 쓰기를 한 클라이언트는 read-your-writes 기간 동안 읽기도 프라이머리에서 수행한다.
+ * 공유 캐시를 채우는 조회({@link CacheLoadContext})는 클라이언트와 상관없이 마지막 쓰기 후 같은 기간 동안 프라이머리에서 읽어,
+ * 다른 클라이언트의 조회가 evict 직후 지연된 레플리카의 이전 값을 캐시에 다시 넣지 않게 한다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    private final long readYourWritesNanos;
+
+    /** 마지막 쓰기 트랜잭션이 커넥션을 얻은 시각(System.nanoTime). */
+    private volatile long lastWriteNanos;
+
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Duration readYourWritesWindow) {
+        this.primary = primary;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.lastWriteNanos = System.nanoTime() - readYourWritesNanos;
+        this.recentWriters = readYourWritesWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String client = ClientContext.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (recentWriters != null && client != null) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+            lastWriteNanos = System.nanoTime();
+            return PRIMARY;
+        }
+
+        if (CacheLoadContext.isLoading() && System.nanoTime() - lastWriteNanos < readYourWritesNanos) {
+            return PRIMARY;
+        }
+
+        if (recentWriters != null && client != null && recentWriters.getIfPresent(client) != null) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(1);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (replica.healthy.getAndSet(healthy) != healthy) {
+                log.warn("레플리카 {} 상태 변경: {}", replica.key, healthy ? "UP" : "DOWN");
+            }
+        }
+    }
+
+    public void close() throws Exception {
+        closeIfPossible(primary);
+        for (Replica replica : replicas) {
+            closeIfPossible(replica.dataSource);
+        }
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable) {
+            ((AutoCloseable) dataSource).close();
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+            if (replica.healthy.get()) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private static class Replica {
+
+        private final String key;
+
+        private final DataSource dataSource;
+
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.able.board.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("board.datasource")
+public class RoutingDataSourceProperties {
+
+    private boolean routing;
+
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    private Pool primary = new Pool();
+
+    private List<Pool> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+    }
+}
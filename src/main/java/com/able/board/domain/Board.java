@@ -11,19 +11,30 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_created_at_id", columnList = "created_at, board_id"),
+        @Index(name = "idx_board_writer_created_at_id", columnList = "writer, created_at, board_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 public class Board {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq_generator")
+    @SequenceGenerator(name = "board_seq_generator", sequenceName = "board_seq", allocationSize = 50)
     @Column(name = "board_id")
     private Long id;
 
     private String title;
 
-    private String content;
+    /**
+     * 목록 조회용 내용 앞부분. 전체 내용은 {@link BoardContent} 에 압축되어 따로 저장된다.
+     */
+    @Column(length = PREVIEW_LENGTH)
+    private String preview;
 
     private String writer;
 
@@ -33,16 +44,26 @@ public class Board {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Column(updatable = false)
+    private long viewCount;
+
     public static Board createBoard(String title, String content, String writer){
         Board board = new Board();
         board.title = title;
-        board.content = content;
+        board.preview = preview(content);
         board.writer = writer;
         return board;
     }
 
     public void changeTitleAndContent(String title, String content) {
         this.title = title;
-        this.content = content;
+        this.preview = preview(content);
+    }
+
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
     }
 }
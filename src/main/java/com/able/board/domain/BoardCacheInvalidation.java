@@ -0,0 +1,43 @@
+package com.able.board.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 캐시 무효화 outbox. 각 인스턴스가 invalidation_id 순으로 폴링해 자기 캐시에서 지운다.
+ */
+@Entity
+@Table(name = "board_cache_invalidation", indexes = @Index(name = "idx_board_cache_invalidation_published_at", columnList = "published_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BoardCacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long id;
+
+    @Column(length = 36, nullable = false)
+    private String origin;
+
+    @Column(name = "board_id")
+    private Long boardId;
+
+    private String writer;
+
+    @Column(name = "published_at", nullable = false)
+    private LocalDateTime publishedAt;
+
+    public static BoardCacheInvalidation of(String origin, Long boardId, String writer, LocalDateTime publishedAt) {
+        BoardCacheInvalidation invalidation = new BoardCacheInvalidation();
+        invalidation.origin = origin;
+        invalidation.boardId = boardId;
+        invalidation.writer = writer;
+        invalidation.publishedAt = publishedAt;
+        return invalidation;
+    }
+}
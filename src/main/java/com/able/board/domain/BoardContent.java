@@ -0,0 +1,67 @@
+package com.able.board.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+/**
+ * 게시글 본문. 단건 조회에서만 필요하므로 게시글과 같은 ID 로 별도 테이블에 두고,
+ * 일정 크기를 넘는 본문은 Deflate 로 압축해 저장한다.
+ */
+@Entity
+@Table(name = "board_content")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BoardContent implements Persistable<Long> {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    private boolean compressed;
+
+    private int originalLength;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static BoardContent of(Long boardId, byte[] data, boolean compressed, int originalLength) {
+        BoardContent boardContent = new BoardContent();
+        boardContent.boardId = boardId;
+        boardContent.change(data, compressed, originalLength);
+        return boardContent;
+    }
+
+    public void change(byte[] data, boolean compressed, int originalLength) {
+        this.data = data;
+        this.compressed = compressed;
+        this.originalLength = originalLength;
+    }
+
+    @Override
+    public Long getId() {
+        return boardId;
+    }
+
+    /**
+     * ID 를 직접 지정하므로, save() 가 merge 를 위해 먼저 조회하지 않도록 새 엔티티임을 알린다.
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
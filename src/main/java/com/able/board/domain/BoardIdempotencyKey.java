@@ -0,0 +1,66 @@
+package com.able.board.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 생성된 게시글의 응답(JSON)과 요청 본문의 해시. 게시글과 같은 트랜잭션에서 저장되므로,
+ * 여러 인스턴스가 같은 키를 동시에 처리해도 기본 키 충돌로 한쪽만 커밋된다.
+ */
+@Entity
+@Table(name = "board_idempotency_key", indexes = @Index(name = "idx_board_idempotency_key_created_at", columnList = "created_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BoardIdempotencyKey implements Persistable<String> {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    @Id
+    @Column(name = "idempotency_key", length = MAX_KEY_LENGTH)
+    private String key;
+
+    /** 요청 본문(작성자 포함)의 SHA-256. 이 컬럼이 생기기 전에 저장된 키는 null 이다. */
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Lob
+    @Column(nullable = false)
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static BoardIdempotencyKey of(String key, String requestHash, String response) {
+        BoardIdempotencyKey idempotencyKey = new BoardIdempotencyKey();
+        idempotencyKey.key = key;
+        idempotencyKey.requestHash = requestHash;
+        idempotencyKey.response = response;
+        idempotencyKey.createdAt = LocalDateTime.now();
+        return idempotencyKey;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
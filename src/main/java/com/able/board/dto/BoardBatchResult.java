@@ -0,0 +1,27 @@
+package com.able.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardBatchResult {
+
+    private int index;
+
+    private Long boardId;
+
+    private boolean success;
+
+    private ExceptionResponse error;
+
+    public static BoardBatchResult success(int index, Long boardId) {
+        return new BoardBatchResult(index, boardId, true, null);
+    }
+
+    public static BoardBatchResult failure(int index, Long boardId, ExceptionResponse error) {
+        return new BoardBatchResult(index, boardId, false, error);
+    }
+}
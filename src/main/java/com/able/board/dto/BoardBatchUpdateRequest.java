@@ -0,0 +1,23 @@
+package com.able.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardBatchUpdateRequest {
+
+    @NotNull(message = "게시글 ID는 필수입니다.")
+    private Long boardId;
+
+    @NotBlank(message = "게시글 제목은 필수입니다.")
+    private String title;
+
+    @NotBlank(message = "게시글 내용은 필수입니다.")
+    private String content;
+}
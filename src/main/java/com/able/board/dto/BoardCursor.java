@@ -0,0 +1,43 @@
+package com.able.board.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardCursor {
+
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime createdAt;
+
+    private Long boardId;
+
+    public static BoardCursor from(BoardSummaryResponse board) {
+        return new BoardCursor(board.getCreatedAt(), board.getBoardId());
+    }
+
+    public static BoardCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new BoardCursor(LocalDateTime.parse(values[0]), Long.valueOf(values[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt.toString() + DELIMITER + boardId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
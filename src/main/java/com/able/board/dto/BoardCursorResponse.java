@@ -0,0 +1,31 @@
+package com.able.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardCursorResponse {
+
+    private List<BoardSummaryResponse> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+    public static BoardCursorResponse from(Slice<BoardSummaryResponse> boards) {
+        List<BoardSummaryResponse> content = boards.getContent();
+        String nextCursor = null;
+        if (boards.hasNext() && !content.isEmpty()) {
+            nextCursor = BoardCursor.from(content.get(content.size() - 1)).encode();
+        }
+        return new BoardCursorResponse(content, boards.getSize(), boards.hasNext(), nextCursor);
+    }
+}
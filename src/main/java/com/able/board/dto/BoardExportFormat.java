@@ -0,0 +1,29 @@
+package com.able.board.dto;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public enum BoardExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    BoardExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static BoardExportFormat from(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format, e);
+        }
+    }
+}
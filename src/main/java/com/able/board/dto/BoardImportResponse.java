@@ -0,0 +1,28 @@
+package com.able.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardImportResponse {
+
+    private int total;
+
+    private int imported;
+
+    private int rejected;
+
+    private List<BoardBatchResult> rejects;
+
+    /**
+     * 저장에 실패해 멈춘 첫 줄. 이 줄 앞의 정상 줄은 모두 저장되었고, 이 줄부터는 저장되지 않았다. 실패가 없으면 null 이다.
+     */
+    private Integer failedLine;
+
+    private ExceptionResponse failure;
+}
@@ -1,14 +1,20 @@
 package com.able.board.dto;
 
 import com.able.board.domain.Board;
-import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
-@Data
+/**
+ * board 캐시에 그대로 들어가 여러 요청이 공유하므로 setter 를 두지 않는다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
 @AllArgsConstructor
 @NoArgsConstructor
 public class BoardResponse {
@@ -21,13 +27,17 @@ public class BoardResponse {
 
     private String writer;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime createdAt;
 
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime updatedAt;
 
-    public static BoardResponse from(Board board) {
-        return new BoardResponse(board.getId(), board.getTitle(), board.getContent(), board.getWriter(), board.getCreatedAt(), board.getUpdatedAt());
+    private Long viewCount;
+
+    public static BoardResponse from(Board board, String content) {
+        return new BoardResponse(board.getId(), board.getTitle(), content, board.getWriter(), board.getCreatedAt(), board.getUpdatedAt(), board.getViewCount());
+    }
+
+    public BoardResponse plusViewCount(long views) {
+        return new BoardResponse(boardId, title, content, writer, createdAt, updatedAt, viewCount + views);
     }
 }
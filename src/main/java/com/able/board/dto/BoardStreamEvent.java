@@ -0,0 +1,28 @@
+package com.able.board.dto;
+
+import com.able.board.domain.Board;
+import com.able.board.event.BoardChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardStreamEvent {
+
+    private BoardChangedEvent.Type type;
+
+    private Long boardId;
+
+    private String title;
+
+    private String writer;
+
+    private String preview;
+
+    public static BoardStreamEvent from(BoardChangedEvent event) {
+        return new BoardStreamEvent(event.getType(), event.getBoardId(), event.getTitle(), event.getWriter(),
+                Board.preview(event.getContent()));
+    }
+}
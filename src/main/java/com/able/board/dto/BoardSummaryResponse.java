@@ -0,0 +1,26 @@
+package com.able.board.dto;
+
+import com.able.board.domain.Board;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardSummaryResponse {
+
+    public static final int PREVIEW_LENGTH = Board.PREVIEW_LENGTH;
+
+    private Long boardId;
+
+    private String title;
+
+    private String writer;
+
+    private LocalDateTime createdAt;
+
+    private String preview;
+}
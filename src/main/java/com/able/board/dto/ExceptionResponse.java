@@ -4,7 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.validation.ConstraintViolation;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Data
 @AllArgsConstructor
@@ -27,4 +30,19 @@ public class ExceptionResponse {
         exceptionResponse.attributes = errors;
         return exceptionResponse;
     }
+
+    public static ExceptionResponse from(String message, Set<? extends ConstraintViolation<?>> violations) {
+        Map<String, String> errors = new HashMap<>(capacityFor(violations.size()));
+        for (ConstraintViolation<?> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return from(message, errors);
+    }
+
+    /**
+     * size 개의 항목을 rehash 없이 담을 수 있는 HashMap 초기 용량
+     */
+    public static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
 }
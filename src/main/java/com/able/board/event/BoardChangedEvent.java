@@ -0,0 +1,41 @@
+package com.able.board.event;
+
+import com.able.board.domain.Board;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Type type;
+
+    private Long boardId;
+
+    private String writer;
+
+    private String title;
+
+    private String content;
+
+    public static BoardChangedEvent created(Board board, String content) {
+        return new BoardChangedEvent(Type.CREATED, board.getId(), board.getWriter(), board.getTitle(), content);
+    }
+
+    public static BoardChangedEvent updated(Board board, String content) {
+        return new BoardChangedEvent(Type.UPDATED, board.getId(), board.getWriter(), board.getTitle(), content);
+    }
+
+    public static BoardChangedEvent deleted(Board board) {
+        return deleted(board.getId(), board.getWriter());
+    }
+
+    public static BoardChangedEvent deleted(Long boardId, String writer) {
+        return new BoardChangedEvent(Type.DELETED, boardId, writer, null, null);
+    }
+}
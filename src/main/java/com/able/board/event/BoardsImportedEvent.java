@@ -0,0 +1,36 @@
+package com.able.board.event;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 가져오기(import) 한 배치가 커밋될 때 한 번 발행한다.
+ * 행마다 BoardChangedEvent 를 발행하면 SSE 구독자, 인스턴스 간 캐시 무효화, 검색 색인으로 행 수만큼 퍼지므로 배치 단위로 묶는다.
+ */
+@Getter
+public class BoardsImportedEvent {
+
+    private final List<BoardChangedEvent> boards;
+
+    public BoardsImportedEvent(List<BoardChangedEvent> boards) {
+        this.boards = Collections.unmodifiableList(boards);
+    }
+
+    public int size() {
+        return boards.size();
+    }
+
+    public Set<String> getWriters() {
+        Set<String> writers = new LinkedHashSet<>();
+        for (BoardChangedEvent board : boards) {
+            if (board.getWriter() != null) {
+                writers.add(board.getWriter());
+            }
+        }
+        return writers;
+    }
+}
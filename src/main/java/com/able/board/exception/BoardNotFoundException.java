@@ -0,0 +1,14 @@
+package com.able.board.exception;
+
+/**
+ * 존재하지 않는 게시글 조회/수정/삭제 시 발생한다.
+ * 정상적인 흐름에서도 자주 발생하는 예외이므로 스택 트레이스를 채우지 않는다.
+ */
+public class BoardNotFoundException extends RuntimeException {
+
+    public static final String MESSAGE = "존재하지 않는 게시글입니다.";
+
+    public BoardNotFoundException() {
+        super(MESSAGE, null, false, false);
+    }
+}
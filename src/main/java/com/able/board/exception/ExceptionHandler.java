@@ -4,31 +4,53 @@ import com.able.board.dto.ExceptionResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
 public class ExceptionHandler {
 
+    private static final String INVALID_REQUEST = "잘못된 요청입니다.";
+
     @org.springframework.web.bind.annotation.ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> handlerValidationExceptions(MethodArgumentNotValidException e) {
-        Map<String, String> errors = new HashMap<>();
-        e.getBindingResult().getAllErrors()
-                .forEach(error -> errors.put(((FieldError) error).getField(), error.getDefaultMessage()));
-        return ResponseEntity.badRequest().body(ExceptionResponse.from("잘못된 요청입니다.", errors));
+        return ResponseEntity.badRequest().body(ExceptionResponse.from(INVALID_REQUEST, fieldErrors(e.getBindingResult())));
     }
 
     @org.springframework.web.bind.annotation.ExceptionHandler(BindException.class)
     public ResponseEntity<ExceptionResponse> handlerValidationExceptions(BindException e) {
-        Map<String, String> errors = new HashMap<>();
-        e.getBindingResult().getAllErrors()
-                .forEach(error -> errors.put(((FieldError) error).getField(), error.getDefaultMessage()));
-        return ResponseEntity.badRequest().body(ExceptionResponse.from("잘못된 요청입니다.", errors));
+        return ResponseEntity.badRequest().body(ExceptionResponse.from(INVALID_REQUEST, fieldErrors(e.getBindingResult())));
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(BoardNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ExceptionResponse boardNotFoundException(BoardNotFoundException e) {
+        return ExceptionResponse.from(e.getMessage());
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionResponse illegalArgumentException(IllegalArgumentException e) {
+        return ExceptionResponse.from(e.getMessage());
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(IdempotencyKeyInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ExceptionResponse idempotencyKeyInProgressException(IdempotencyKeyInProgressException e) {
+        return ExceptionResponse.from(e.getMessage());
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(IdempotencyKeyMismatchException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ExceptionResponse idempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        return ExceptionResponse.from(e.getMessage());
     }
 
     @org.springframework.web.bind.annotation.ExceptionHandler(Exception.class)
@@ -37,4 +59,13 @@ public class ExceptionHandler {
         ExceptionResponse exceptionResponse = ExceptionResponse.from(e.getMessage());
         return exceptionResponse;
     }
+
+    private static Map<String, String> fieldErrors(BindingResult bindingResult) {
+        List<FieldError> fieldErrors = bindingResult.getFieldErrors();
+        Map<String, String> errors = new HashMap<>(ExceptionResponse.capacityFor(fieldErrors.size()));
+        for (FieldError error : fieldErrors) {
+            errors.put(error.getField(), error.getDefaultMessage());
+        }
+        return errors;
+    }
 }
@@ -0,0 +1,8 @@
+package com.able.board.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String idempotencyKey) {
+        super("같은 Idempotency-Key 의 요청이 아직 처리 중입니다: " + idempotencyKey);
+    }
+}
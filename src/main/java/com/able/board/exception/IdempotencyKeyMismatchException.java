@@ -0,0 +1,8 @@
+package com.able.board.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,61 @@
+package com.able.board.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 DTO 의 LocalDateTime 을 "yyyy-MM-dd'T'HH:mm:ss" 로 직렬화한다.
+ * 필드마다 @JsonFormat 을 달면 패턴별 포매터를 찾고 StringBuilder/String 을 만드는 비용이 호출마다 들기 때문에
+ * 자릿수를 char 배열에 바로 써서 JsonGenerator 로 넘긴다.
+ */
+@JsonComponent
+public class LocalDateTimeJsonComponent {
+
+    public static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    private static final int LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    public static class Serializer extends StdSerializer<LocalDateTime> {
+
+        public Serializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (year < 0 || year > 9999) {
+                generator.writeString(FORMATTER.format(value));
+                return;
+            }
+            char[] buffer = new char[LENGTH];
+            writeDigits(buffer, 0, year, 4);
+            buffer[4] = '-';
+            writeDigits(buffer, 5, value.getMonthValue(), 2);
+            buffer[7] = '-';
+            writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+            buffer[10] = 'T';
+            writeDigits(buffer, 11, value.getHour(), 2);
+            buffer[13] = ':';
+            writeDigits(buffer, 14, value.getMinute(), 2);
+            buffer[16] = ':';
+            writeDigits(buffer, 17, value.getSecond(), 2);
+            generator.writeString(buffer, 0, LENGTH);
+        }
+
+        private static void writeDigits(char[] buffer, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
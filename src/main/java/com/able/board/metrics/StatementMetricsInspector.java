@@ -0,0 +1,54 @@
+package com.able.board.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+public class StatementMetricsInspector implements StatementInspector {
+
+    private final transient Counter selects;
+    private final transient Counter inserts;
+    private final transient Counter updates;
+    private final transient Counter deletes;
+    private final transient Counter others;
+
+    public StatementMetricsInspector(MeterRegistry meterRegistry) {
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.trim();
+        int end = Math.min(statement.length(), 6);
+        switch (statement.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select":
+                selects.increment();
+                break;
+            case "insert":
+                inserts.increment();
+                break;
+            case "update":
+                updates.increment();
+                break;
+            case "delete":
+                deletes.increment();
+                break;
+            default:
+                others.increment();
+        }
+        return sql;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("board.db.statements")
+                .description("Hibernate 가 준비한 SQL 문 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.able.board.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hikari 가 기록하는 hikaricp.connections.acquire 타이머를 주기적으로 읽어,
+ * 직전 구간의 평균 커넥션 대기 시간이 임계값을 넘으면 과부하로 판단한다.
+ */
+public class PoolWaitMonitor {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final MeterRegistry meterRegistry;
+
+    private final long thresholdNanos;
+
+    private long lastCount;
+
+    private double lastTotalNanos;
+
+    private volatile boolean overloaded;
+
+    public PoolWaitMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    @Scheduled(fixedDelayString = "${board.rate-limit.pool-wait-check-interval-ms:500}")
+    public synchronized void check() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        long acquired = count - lastCount;
+        double waitedNanos = totalNanos - lastTotalNanos;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+
+        overloaded = acquired > 0 && waitedNanos / acquired > thresholdNanos;
+    }
+}
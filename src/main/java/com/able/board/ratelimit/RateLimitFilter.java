@@ -0,0 +1,132 @@
+package com.able.board.ratelimit;
+
+import com.able.board.dto.ExceptionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /boards 요청에 대해 차례로
+ * 1) 클라이언트별 토큰 버킷(조회/변경 별도) → 429
+ * 2) 커넥션 풀 대기 시간 → 503
+ * 3) 동시 처리 요청 수 → 503
+ * 을 검사한다. 거절 응답에는 Retry-After 를 붙인다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BOARDS_PATH = "/boards";
+    private static final String TOO_MANY_REQUESTS = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String OVERLOADED = "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private final RateLimitProperties properties;
+    private final PoolWaitMonitor poolWaitMonitor;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, TokenBucket> readBuckets;
+    private final Cache<String, TokenBucket> writeBuckets;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RateLimitFilter(RateLimitProperties properties, PoolWaitMonitor poolWaitMonitor,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.poolWaitMonitor = poolWaitMonitor;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.readBuckets = buckets(properties);
+        this.writeBuckets = buckets(properties);
+        Gauge.builder("board.ratelimit.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !urlPathHelper.getPathWithinApplication(request).startsWith(BOARDS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean write = isWrite(request.getMethod());
+        String endpoint = write ? "write" : "read";
+
+        RateLimitProperties.Limit limit = write ? properties.getWrite() : properties.getRead();
+        TokenBucket bucket = (write ? writeBuckets : readBuckets)
+                .get(client(request), key -> new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst()));
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, endpoint, "rate", waitNanos, TOO_MANY_REQUESTS);
+            return;
+        }
+
+        long retryAfterNanos = properties.getOverloadRetryAfter().toNanos();
+        if (poolWaitMonitor.isOverloaded()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, endpoint, "pool", retryAfterNanos, OVERLOADED);
+            return;
+        }
+
+        if (inFlight.incrementAndGet() > properties.getMaxConcurrentRequests()) {
+            inFlight.decrementAndGet();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, endpoint, "concurrency", retryAfterNanos, OVERLOADED);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 등록된 API 키면 키로, 아니면 IP 로 구분한다. 프록시 뒤에서는 server.forward-headers-strategy 가
+     * 신뢰하는 프록시의 X-Forwarded-For 로 getRemoteAddr() 를 실제 클라이언트 IP 로 바꿔 준다.
+     */
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.getApiKeyHeader());
+        if (apiKey != null && properties.getApiKeys().contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String endpoint, String reason,
+                        long retryAfterNanos, String message) throws IOException {
+        meterRegistry.counter("board.ratelimit.rejected", "endpoint", endpoint, "reason", reason).increment();
+
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ExceptionResponse.from(message));
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static Cache<String, TokenBucket> buckets(RateLimitProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+}
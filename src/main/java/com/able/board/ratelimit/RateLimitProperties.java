@@ -0,0 +1,56 @@
+package com.able.board.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties("board.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * api-keys 에 등록된 키를 보낸 클라이언트만 키 단위로 제한하고, 나머지는 실제 클라이언트 IP 단위로 제한한다.
+     * 클라이언트가 마음대로 바꿀 수 있는 값으로 버킷을 나누면 값을 바꿔 가며 제한을 피할 수 있기 때문이다.
+     */
+    private String apiKeyHeader = "X-Api-Key";
+
+    private Set<String> apiKeys = new HashSet<>();
+
+    private long maxClients = 100_000;
+
+    private Limit read = new Limit(50, 100);
+
+    private Limit write = new Limit(5, 10);
+
+    private int maxConcurrentRequests = 200;
+
+    private Duration poolWaitThreshold = Duration.ofMillis(100);
+
+    private long poolWaitCheckIntervalMs = 500;
+
+    private Duration overloadRetryAfter = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private double permitsPerSecond;
+
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.able.board.repository;
+
+import com.able.board.domain.BoardCacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardCacheInvalidationRepository extends JpaRepository<BoardCacheInvalidation, Long> {
+
+    List<BoardCacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select coalesce(max(i.id), 0) from BoardCacheInvalidation i")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("delete from BoardCacheInvalidation i where i.publishedAt < :publishedAt")
+    int deleteByPublishedAtBefore(@Param("publishedAt") LocalDateTime publishedAt);
+}
@@ -0,0 +1,22 @@
+package com.able.board.repository;
+
+import com.able.board.domain.BoardContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardContentRepository extends JpaRepository<BoardContent, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update BoardContent c set c.data = :data, c.compressed = :compressed, c.originalLength = :originalLength" +
+            " where c.boardId = :boardId")
+    int updateContent(@Param("boardId") Long boardId,
+                      @Param("data") byte[] data,
+                      @Param("compressed") boolean compressed,
+                      @Param("originalLength") int originalLength);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from BoardContent c where c.boardId = :boardId")
+    int deleteContentById(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,18 @@
+package com.able.board.repository;
+
+import com.able.board.domain.BoardIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface BoardIdempotencyKeyRepository extends JpaRepository<BoardIdempotencyKey, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from BoardIdempotencyKey k where k.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
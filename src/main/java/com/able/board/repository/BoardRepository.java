@@ -1,7 +1,78 @@
 package com.able.board.repository;
 
 import com.able.board.domain.Board;
+import com.able.board.dto.BoardSummaryResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    String SUMMARY_QUERY = "select new com.able.board.dto.BoardSummaryResponse(" +
+            "b.id, b.title, b.writer, b.createdAt, b.preview)" +
+            " from Board b";
+
+    @Query(SUMMARY_QUERY)
+    Slice<BoardSummaryResponse> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_QUERY + " order by b.createdAt desc, b.id desc")
+    Slice<BoardSummaryResponse> findSummariesOrderByCreatedAt(Pageable pageable);
+
+    @Query(SUMMARY_QUERY +
+            " where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :boardId)" +
+            " order by b.createdAt desc, b.id desc")
+    Slice<BoardSummaryResponse> findSummariesByCursor(@Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("boardId") Long boardId,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_QUERY + " where b.writer = :writer order by b.createdAt desc, b.id desc")
+    Slice<BoardSummaryResponse> findSummariesByWriter(@Param("writer") String writer, Pageable pageable);
+
+    @Query(SUMMARY_QUERY +
+            " where b.writer = :writer" +
+            " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :boardId))" +
+            " order by b.createdAt desc, b.id desc")
+    Slice<BoardSummaryResponse> findSummariesByWriterAndCursor(@Param("writer") String writer,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("boardId") Long boardId,
+                                                               Pageable pageable);
+
+    @Query(SUMMARY_QUERY + " where b.id in :boardIds")
+    List<BoardSummaryResponse> findSummariesByIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    @Query("select b.writer from Board b where b.id = :boardId")
+    Optional<String> findWriterById(@Param("boardId") Long boardId);
+
+    Slice<Board> findAllByIdGreaterThanOrderByIdAsc(Long boardId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select b from Board b order by b.id")
+    Stream<Board> streamAll();
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Board b set b.title = :title, b.preview = :preview, b.updatedAt = :updatedAt" +
+            " where b.id = :boardId")
+    int updateTitleAndPreview(@Param("boardId") Long boardId,
+                              @Param("title") String title,
+                              @Param("preview") String preview,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Board b where b.id = :boardId")
+    int deleteBoardById(@Param("boardId") Long boardId);
 }
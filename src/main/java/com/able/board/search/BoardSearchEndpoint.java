@@ -0,0 +1,38 @@
+package com.able.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "boardsearch")
+@RequiredArgsConstructor
+public class BoardSearchEndpoint {
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardSearchIndexer boardSearchIndexer;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("documents", boardSearchIndex.size());
+        status.put("terms", boardSearchIndex.termCount());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        long start = System.currentTimeMillis();
+        long indexed = boardSearchIndexer.rebuild();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexed", indexed);
+        result.put("elapsedMillis", System.currentTimeMillis() - start);
+        return result;
+    }
+}
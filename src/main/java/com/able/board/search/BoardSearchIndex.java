@@ -0,0 +1,78 @@
+package com.able.board.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 재구성 중에 들어온 변경은 현재 색인과 재구성 중인 색인 모두에 반영한다.
+ * 재구성은 변경 이벤트보다 먼저 읽은 이전 값을 가지고 있을 수 있으므로, 이벤트가 다룬 게시글은 재구성 쪽에서 덮어쓰지 않는다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private volatile InvertedIndex current = new InvertedIndex();
+
+    private InvertedIndex rebuilding;
+
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    public synchronized void index(Long boardId, String title, String content) {
+        current.index(boardId, title, content);
+        if (rebuilding != null) {
+            rebuilding.index(boardId, title, content);
+            changedDuringRebuild.add(boardId);
+        }
+    }
+
+    public synchronized void remove(Long boardId) {
+        current.remove(boardId);
+        if (rebuilding != null) {
+            rebuilding.remove(boardId);
+            changedDuringRebuild.add(boardId);
+        }
+    }
+
+    public Page<Long> search(String query, Pageable pageable) {
+        return current.search(query, pageable);
+    }
+
+    public int size() {
+        return current.size();
+    }
+
+    public int termCount() {
+        return current.termCount();
+    }
+
+    synchronized InvertedIndex beginRebuild() {
+        if (rebuilding != null) {
+            throw new IllegalStateException("검색 색인을 재구성하는 중입니다.");
+        }
+        rebuilding = new InvertedIndex();
+        return rebuilding;
+    }
+
+    /**
+     * 재구성 중 DB 에서 읽은 게시글을 넣는다. 재구성이 시작된 뒤 이벤트로 반영된 게시글은 건너뛴다.
+     */
+    synchronized void rebuildIndex(InvertedIndex index, Long boardId, String title, String content) {
+        if (index == rebuilding && !changedDuringRebuild.contains(boardId)) {
+            index.index(boardId, title, content);
+        }
+    }
+
+    synchronized void finishRebuild(InvertedIndex index) {
+        current = index;
+        rebuilding = null;
+        changedDuringRebuild.clear();
+    }
+
+    synchronized void abortRebuild() {
+        rebuilding = null;
+        changedDuringRebuild.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package com.able.board.search;
+
+import com.able.board.domain.Board;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.able.board.repository.BoardRepository;
+import com.able.board.service.BoardContentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexer {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardContentStore boardContentStore;
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            boardSearchIndex.remove(event.getBoardId());
+        } else {
+            boardSearchIndex.index(event.getBoardId(), event.getTitle(), event.getContent());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        for (BoardChangedEvent board : event.getBoards()) {
+            boardSearchIndex.index(board.getBoardId(), board.getTitle(), board.getContent());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        long count = rebuild();
+        log.info("검색 색인 재구성 완료: {}건", count);
+    }
+
+    public long rebuild() {
+        InvertedIndex index = boardSearchIndex.beginRebuild();
+        try {
+            long count = 0;
+            Long lastBoardId = 0L;
+            Slice<Board> boards;
+            do {
+                boards = boardRepository.findAllByIdGreaterThanOrderByIdAsc(lastBoardId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                Map<Long, String> contents = boardContentStore.findAll(boards.stream()
+                        .map(Board::getId)
+                        .collect(Collectors.toList()));
+                for (Board board : boards) {
+                    boardSearchIndex.rebuildIndex(index, board.getId(), board.getTitle(), contents.get(board.getId()));
+                    lastBoardId = board.getId();
+                    count++;
+                }
+            } while (boards.hasNext());
+
+            boardSearchIndex.finishRebuild(index);
+            return count;
+        } catch (RuntimeException e) {
+            boardSearchIndex.abortRebuild();
+            throw e;
+        }
+    }
+}
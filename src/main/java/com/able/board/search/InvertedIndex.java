@@ -0,0 +1,172 @@
+package com.able.board.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목/내용에 대한 메모리 역색인.
+ * 한글(CJK) 어절은 2-gram 으로, 그 외 단어는 소문자 단어 단위로 색인하고 BM25 로 순위를 매긴다.
+ * 쓰기는 직렬화하고 검색은 잠금 없이 수행한다.
+ */
+public class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    private final Map<Long, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+    private final Map<Long, Integer> lengths = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalLength = new AtomicLong();
+
+    public synchronized void index(Long boardId, String title, String content) {
+        remove(boardId);
+
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : tokenize(title)) {
+            terms.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(content)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new ConcurrentHashMap<>())
+                    .put(boardId, term.getValue());
+            length += term.getValue();
+        }
+        documents.put(boardId, terms);
+        lengths.put(boardId, length);
+        totalLength.addAndGet(length);
+    }
+
+    public synchronized void remove(Long boardId) {
+        Map<String, Integer> terms = documents.remove(boardId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(boardId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        Integer length = lengths.remove(boardId);
+        if (length != null) {
+            totalLength.addAndGet(-length);
+        }
+    }
+
+    public Page<Long> search(String query, Pageable pageable) {
+        int documentCount = documents.size();
+        if (documentCount == 0) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength.get() / documentCount);
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs == null || docs.isEmpty()) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                Integer length = lengths.get(doc.getKey());
+                if (length == null) {
+                    continue;
+                }
+                double tf = doc.getValue();
+                double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                scores.merge(doc.getKey(), score, Double::sum);
+            }
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Comparator.comparing(Map.Entry<Long, Double>::getValue).reversed()
+                        .thenComparing(Map.Entry<Long, Double>::getKey, Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(new ArrayList<>(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else {
+                addWord(word, tokens);
+            }
+        }
+        addWord(word, tokens);
+        return tokens;
+    }
+
+    private static void addWord(StringBuilder word, List<String> tokens) {
+        if (word.length() == 0) {
+            return;
+        }
+
+        if (!isCjk(word)) {
+            tokens.add(word.toString());
+        } else if (word.length() == 1) {
+            tokens.add(word.toString());
+        } else {
+            for (int i = 0; i < word.length() - 1; i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isCjk(CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(word.charAt(i));
+            if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
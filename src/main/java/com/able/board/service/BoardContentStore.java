@@ -0,0 +1,155 @@
+package com.able.board.service;
+
+import com.able.board.domain.BoardContent;
+import com.able.board.repository.BoardContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문을 board_content 에 저장하고 읽는다.
+ * compression-threshold-bytes 이상인 본문만 압축하며, 압축해도 작아지지 않으면 원본을 그대로 둔다.
+ */
+@Component
+public class BoardContentStore {
+
+    private final BoardContentRepository boardContentRepository;
+
+    private final int compressionThreshold;
+
+    private final Counter bytesSaved;
+
+    private final Timer decompressionTimer;
+
+    public BoardContentStore(BoardContentRepository boardContentRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.content.compression-threshold-bytes:1024}") int compressionThreshold) {
+        this.boardContentRepository = boardContentRepository;
+        this.compressionThreshold = compressionThreshold;
+        this.bytesSaved = Counter.builder("board.content.bytes.saved")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.decompressionTimer = Timer.builder("board.content.decompression")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void save(Long boardId, String content) {
+        boardContentRepository.save(encode(boardId, content));
+    }
+
+    public void saveAll(Map<Long, String> contents) {
+        List<BoardContent> boardContents = new ArrayList<>(contents.size());
+        contents.forEach((boardId, content) -> boardContents.add(encode(boardId, content)));
+        boardContentRepository.saveAll(boardContents);
+    }
+
+    public void update(Long boardId, String content) {
+        BoardContent encoded = encode(boardId, content);
+        boardContentRepository.updateContent(boardId, encoded.getData(), encoded.isCompressed(), encoded.getOriginalLength());
+    }
+
+    /**
+     * 영속 상태의 엔티티를 고쳐 변경 감지로 반영하므로, 여러 건이 하나의 JDBC 배치로 나간다.
+     */
+    public void updateAll(Map<Long, String> contents) {
+        for (BoardContent boardContent : boardContentRepository.findAllById(contents.keySet())) {
+            BoardContent encoded = encode(boardContent.getBoardId(), contents.get(boardContent.getBoardId()));
+            boardContent.change(encoded.getData(), encoded.isCompressed(), encoded.getOriginalLength());
+        }
+    }
+
+    public void delete(Long boardId) {
+        boardContentRepository.deleteContentById(boardId);
+    }
+
+    public void deleteAll(Collection<Long> boardIds) {
+        boardContentRepository.deleteAllByIdInBatch(boardIds);
+    }
+
+    public String find(Long boardId) {
+        return boardContentRepository.findById(boardId)
+                .map(this::decode)
+                .orElse(null);
+    }
+
+    public Map<Long, String> findAll(Collection<Long> boardIds) {
+        Map<Long, String> contents = new HashMap<>();
+        for (BoardContent boardContent : boardContentRepository.findAllById(boardIds)) {
+            contents.put(boardContent.getBoardId(), decode(boardContent));
+        }
+        return contents;
+    }
+
+    private BoardContent encode(Long boardId, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < compressionThreshold) {
+            return BoardContent.of(boardId, raw, false, raw.length);
+        }
+
+        byte[] compressed = deflate(raw);
+        if (compressed.length >= raw.length) {
+            return BoardContent.of(boardId, raw, false, raw.length);
+        }
+        bytesSaved.increment(raw.length - compressed.length);
+        return BoardContent.of(boardId, compressed, true, raw.length);
+    }
+
+    private String decode(BoardContent boardContent) {
+        if (!boardContent.isCompressed()) {
+            return new String(boardContent.getData(), StandardCharsets.UTF_8);
+        }
+        return decompressionTimer.record(() ->
+                new String(inflate(boardContent.getData(), boardContent.getOriginalLength()), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[originalLength];
+            int length = 0;
+            while (length < originalLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, originalLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated content");
+                }
+                length += inflated;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 내용을 읽을 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
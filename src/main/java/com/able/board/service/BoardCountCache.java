@@ -0,0 +1,55 @@
+package com.able.board.service;
+
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.able.board.repository.BoardRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 조회의 전체 게시글 수를 count(*) 대신 이 값으로 채운다.
+ * 커밋된 생성/삭제 이벤트로 즉시 보정하고, 놓친 변경은 주기적인 count(*) 로 다시 맞춘다.
+ * 따라서 오차는 board.count.refresh-interval-ms 동안의 직접 SQL 변경분으로 제한된다.
+ */
+@Component
+public class BoardCountCache {
+
+    private static final long UNKNOWN = -1;
+
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    private final BoardRepository boardRepository;
+
+    public BoardCountCache(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    public long get() {
+        long current = count.get();
+        return current == UNKNOWN ? refresh() : current;
+    }
+
+    @Scheduled(fixedDelayString = "${board.count.refresh-interval-ms:60000}")
+    public synchronized long refresh() {
+        long total = boardRepository.count();
+        count.set(total);
+        return total;
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.CREATED) {
+            count.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : current + 1);
+        } else if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            count.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : Math.max(current - 1, 0));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        count.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : current + event.size());
+    }
+}
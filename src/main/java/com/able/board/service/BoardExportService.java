@@ -0,0 +1,11 @@
+package com.able.board.service;
+
+import com.able.board.dto.BoardExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BoardExportService {
+
+    void export(BoardExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,134 @@
+package com.able.board.service;
+
+import com.able.board.domain.Board;
+import com.able.board.dto.BoardExportFormat;
+import com.able.board.dto.BoardResponse;
+import com.able.board.repository.BoardRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardExportServiceImpl implements BoardExportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String CSV_HEADER = "boardId,title,content,writer,createdAt,updatedAt,viewCount";
+
+    private final BoardRepository boardRepository;
+    private final BoardContentStore boardContentStore;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(BoardExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Board> boards = boardRepository.streamAll()) {
+            if (format == BoardExportFormat.CSV) {
+                writeCsv(boards.iterator(), outputStream);
+            } else {
+                writeNdjson(boards.iterator(), outputStream);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Board> boards, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BoardResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        while (boards.hasNext()) {
+            List<Board> chunk = nextChunk(boards);
+            Map<Long, String> contents = findContents(chunk);
+            for (Board board : chunk) {
+                writer.writeValue(generator, BoardResponse.from(board, contents.get(board.getId())));
+                generator.writeRaw('\n');
+            }
+            entityManager.clear();
+            generator.flush();
+        }
+        generator.close();
+    }
+
+    private void writeCsv(Iterator<Board> boards, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (boards.hasNext()) {
+            List<Board> chunk = nextChunk(boards);
+            Map<Long, String> contents = findContents(chunk);
+            for (Board board : chunk) {
+                writer.write(String.valueOf(board.getId()));
+                writer.write(',');
+                writeCsvField(writer, board.getTitle());
+                writer.write(',');
+                writeCsvField(writer, contents.get(board.getId()));
+                writer.write(',');
+                writeCsvField(writer, board.getWriter());
+                writer.write(',');
+                writeCsvField(writer, format(board.getCreatedAt()));
+                writer.write(',');
+                writeCsvField(writer, format(board.getUpdatedAt()));
+                writer.write(',');
+                writer.write(String.valueOf(board.getViewCount()));
+                writer.write('\n');
+            }
+            entityManager.clear();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 본문은 별도 테이블에 있으므로 CHUNK_SIZE 건씩 모아 한 번에 읽고,
+     * 다 쓴 청크는 영속성 컨텍스트에서 비워 힙 사용량을 일정하게 유지한다.
+     */
+    private static List<Board> nextChunk(Iterator<Board> boards) {
+        List<Board> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (boards.hasNext() && chunk.size() < CHUNK_SIZE) {
+            chunk.add(boards.next());
+        }
+        return chunk;
+    }
+
+    private Map<Long, String> findContents(List<Board> chunk) {
+        return boardContentStore.findAll(chunk.stream()
+                .map(Board::getId)
+                .collect(Collectors.toList()));
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+}
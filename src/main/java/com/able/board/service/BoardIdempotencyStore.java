@@ -0,0 +1,201 @@
+package com.able.board.service;
+
+import com.able.board.domain.BoardIdempotencyKey;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardResponse;
+import com.able.board.exception.IdempotencyKeyInProgressException;
+import com.able.board.exception.IdempotencyKeyMismatchException;
+import com.able.board.repository.BoardIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 생성 결과를 보관한다.
+ * 처음 들어온 요청만 생성을 실행하고, 동시에 들어온 같은 키의 요청은 그 결과(CompletableFuture)를 기다린다.
+ * persistent 가 켜져 있으면 board_idempotency_key 테이블에도 남겨 재시작이나 다른 인스턴스에서도 중복을 막는다.
+ * 키는 처음 요청 본문(작성자 포함)의 해시에 묶인다. 같은 키로 다른 본문이 오면 남의 응답을 돌려주지 않고 거절한다.
+ * 개수 제한(maximum-keys)으로는 끝난 응답만 밀려난다. 진행 중인 항목은 무게 0 으로 넣어 두었다가 끝나면 무게 1 로 다시 넣어,
+ * 생성 도중 밀려난 키로 재시도가 한 번 더 생성하는 일이 없게 한다.
+ */
+@Component
+public class BoardIdempotencyStore {
+
+    private final ConcurrentMap<String, InFlight> responses;
+
+    private final BoardIdempotencyKeyRepository boardIdempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean persistent;
+
+    private final Duration ttl;
+
+    private final Duration waitTimeout;
+
+    private final Counter replayed;
+
+    public BoardIdempotencyStore(BoardIdempotencyKeyRepository boardIdempotencyKeyRepository,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${board.idempotency.maximum-keys:100000}") long maximumKeys,
+                                 @Value("${board.idempotency.ttl:24h}") Duration ttl,
+                                 @Value("${board.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                                 @Value("${board.idempotency.persistent:false}") boolean persistent) {
+        Cache<String, InFlight> cache = Caffeine.newBuilder()
+                .maximumWeight(maximumKeys)
+                .weigher((String key, InFlight inFlight) -> inFlight.response.isDone() ? 1 : 0)
+                .expireAfterWrite(ttl)
+                .build();
+        this.responses = cache.asMap();
+        this.boardIdempotencyKeyRepository = boardIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.replayed = meterRegistry.counter("board.idempotency.replayed");
+    }
+
+    /**
+     * @param create 게시글을 만들고 커밋까지 마친 뒤 응답을 돌려주는 작업
+     */
+    public BoardResponse execute(String key, BoardCreateRequest request, Supplier<BoardResponse> create) {
+        if (key.isEmpty() || key.length() > BoardIdempotencyKey.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + BoardIdempotencyKey.MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        InFlight created = new InFlight(requestHash);
+        InFlight existing = responses.putIfAbsent(key, created);
+        if (existing != null) {
+            if (!existing.requestHash.equals(requestHash)) {
+                throw new IdempotencyKeyMismatchException(key);
+            }
+            replayed.increment();
+            return await(key, existing.response);
+        }
+
+        try {
+            BoardResponse response = findPersisted(key, requestHash)
+                    .orElseGet(() -> createOrFindPersisted(key, requestHash, create));
+            created.response.complete(response);
+            responses.replace(key, created, created);
+            return response;
+        } catch (RuntimeException e) {
+            responses.remove(key, created);
+            created.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 생성 트랜잭션 안에서 호출되어, 게시글과 함께 커밋된다.
+     */
+    public void record(String key, BoardCreateRequest request, BoardResponse response) {
+        if (!persistent) {
+            return;
+        }
+        try {
+            boardIdempotencyKeyRepository.save(BoardIdempotencyKey.of(key, hash(request), objectMapper.writeValueAsString(response)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.idempotency.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        if (persistent) {
+            boardIdempotencyKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(ttl));
+        }
+    }
+
+    private BoardResponse createOrFindPersisted(String key, String requestHash, Supplier<BoardResponse> create) {
+        try {
+            return create.get();
+        } catch (DataIntegrityViolationException e) {
+            if (!persistent) {
+                throw e;
+            }
+            replayed.increment();
+            return findPersisted(key, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<BoardResponse> findPersisted(String key, String requestHash) {
+        if (!persistent) {
+            return Optional.empty();
+        }
+        return boardIdempotencyKeyRepository.findById(key)
+                .map(idempotencyKey -> {
+                    if (idempotencyKey.getRequestHash() != null && !idempotencyKey.getRequestHash().equals(requestHash)) {
+                        throw new IdempotencyKeyMismatchException(key);
+                    }
+                    return read(idempotencyKey.getResponse());
+                });
+    }
+
+    private String hash(BoardCreateRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BoardResponse read(String response) {
+        try {
+            return objectMapper.readValue(response, BoardResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BoardResponse await(String key, CompletableFuture<BoardResponse> existing) {
+        try {
+            return existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    private static class InFlight {
+
+        private final String requestHash;
+
+        private final CompletableFuture<BoardResponse> response = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.able.board.service;
+
+import com.able.board.dto.BoardImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BoardImportService {
+
+    BoardImportResponse importBoards(InputStream inputStream) throws IOException;
+}
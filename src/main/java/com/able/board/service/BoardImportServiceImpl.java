@@ -0,0 +1,347 @@
+package com.able.board.service;
+
+import com.able.board.domain.Board;
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardImportResponse;
+import com.able.board.dto.ExceptionResponse;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.able.board.repository.BoardRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON 한 줄을 게시글 하나로 읽어 들인다.
+ * 읽기(호출 스레드) → 검증(스레드 풀) → 쓰기(단일 스레드) 단계는 모두 크기가 제한된 큐로 이어져 있어,
+ * 쓰기가 밀리면 검증이, 검증이 밀리면 읽기가 멈춘다.
+ * 검증은 병렬이라 순서가 섞이므로 쓰기 단계가 줄 순서로 되돌려 배치를 만든다. 배치 저장이 실패하면 거기서 멈추고,
+ * 그 배치의 첫 줄을 failedLine 으로 돌려준다. 그 앞의 정상 줄은 모두 저장되었고 그 줄부터는 저장되지 않았으므로
+ * 클라이언트는 failedLine 부터 다시 보내면 된다.
+ */
+@Slf4j
+@Service
+public class BoardImportServiceImpl implements BoardImportService {
+
+    private static final String INVALID_REQUEST = "잘못된 요청입니다.";
+    private static final String INVALID_FORMAT = "잘못된 형식입니다.";
+    private static final int MAX_REJECTS = 1000;
+
+    private static final String WRITE_FAILED = "게시글 저장에 실패했습니다.";
+
+    private static final ImportRecord END = new ImportRecord(0, 0, null, null);
+
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final BoardRepository boardRepository;
+    private final BoardContentStore boardContentStore;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int validationThreads;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    private final Counter readCounter;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+    private final Set<BlockingQueue<ImportRecord>> activeQueues = ConcurrentHashMap.newKeySet();
+
+    public BoardImportServiceImpl(ObjectMapper objectMapper,
+                                  Validator validator,
+                                  BoardRepository boardRepository,
+                                  BoardContentStore boardContentStore,
+                                  EntityManager entityManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${board.import.validation-threads:4}") int validationThreads,
+                                  @Value("${board.import.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${board.import.batch-size:1000}") int batchSize) {
+        this.requestReader = objectMapper.readerFor(BoardCreateRequest.class);
+        this.validator = validator;
+        this.boardRepository = boardRepository;
+        this.boardContentStore = boardContentStore;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validationThreads = validationThreads;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+
+        this.readCounter = meterRegistry.counter("board.import.records", "result", "read");
+        this.importedCounter = meterRegistry.counter("board.import.records", "result", "imported");
+        this.rejectedCounter = meterRegistry.counter("board.import.records", "result", "rejected");
+        this.batchTimer = Timer.builder("board.import.batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("board.import.active", activeQueues, Set::size).register(meterRegistry);
+        Gauge.builder("board.import.pending", activeQueues,
+                queues -> queues.stream().mapToInt(BlockingQueue::size).sum()).register(meterRegistry);
+    }
+
+    @Override
+    public BoardImportResponse importBoards(InputStream inputStream) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        BlockingQueue<ImportRecord> records = new ArrayBlockingQueue<>(queueCapacity);
+        ThreadPoolExecutor validators = new ThreadPoolExecutor(validationThreads, validationThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("board-import-validate-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorService writerExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("board-import-write-"));
+
+        activeQueues.add(records);
+        try {
+            Future<?> writer = writerExecutor.submit(() -> {
+                write(records, progress);
+                return null;
+            });
+
+            BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            String line;
+            int lineNumber = 0;
+            while ((line = lines.readLine()) != null && !writer.isDone()) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                int sequence = progress.total.incrementAndGet();
+                readCounter.increment();
+                int number = lineNumber;
+                String json = line;
+                validators.execute(() -> validate(sequence, number, json, records, progress, writer));
+            }
+
+            validators.shutdown();
+            validators.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            enqueue(records, END, writer);
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 가져오기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("게시글 가져오기에 실패했습니다.", e.getCause());
+        } finally {
+            validators.shutdownNow();
+            writerExecutor.shutdownNow();
+            activeQueues.remove(records);
+        }
+
+        log.info("게시글 가져오기 완료: total={}, imported={}, rejected={}, failedLine={}",
+                progress.total.get(), progress.imported.get(), progress.rejected.get(), progress.failedLine);
+        return progress.toResponse();
+    }
+
+    /**
+     * 쓰기 단계가 줄 순서를 맞출 수 있도록, 거부된 줄도 게시글 없는 기록으로 꼭 하나 넘긴다.
+     */
+    private void validate(int sequence, int line, String json, BlockingQueue<ImportRecord> records,
+                          ImportProgress progress, Future<?> writer) {
+        ImportRecord record;
+        try {
+            record = toRecord(sequence, line, json, progress);
+        } catch (RuntimeException e) {
+            reject(progress, line, ExceptionResponse.from(INVALID_REQUEST));
+            record = new ImportRecord(sequence, line, null, null);
+        }
+        try {
+            enqueue(records, record, writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ImportRecord toRecord(int sequence, int line, String json, ImportProgress progress) {
+        BoardCreateRequest request;
+        try {
+            request = requestReader.readValue(json);
+        } catch (JsonProcessingException e) {
+            request = null;
+        }
+        if (request == null) {
+            reject(progress, line, ExceptionResponse.from(INVALID_FORMAT));
+            return new ImportRecord(sequence, line, null, null);
+        }
+
+        Set<ConstraintViolation<BoardCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            reject(progress, line, ExceptionResponse.from(INVALID_REQUEST, violations));
+            return new ImportRecord(sequence, line, null, null);
+        }
+
+        Board board = Board.createBoard(request.getTitle(), request.getContent(), request.getWriter());
+        return new ImportRecord(sequence, line, board, request.getContent());
+    }
+
+    private void reject(ImportProgress progress, int line, ExceptionResponse error) {
+        progress.reject(BoardBatchResult.failure(line, null, error));
+        rejectedCounter.increment();
+    }
+
+    /**
+     * 쓰기 단계가 실패로 끝났다면 더 이상 기다리지 않고 버린다.
+     */
+    private void enqueue(BlockingQueue<ImportRecord> records, ImportRecord record, Future<?> writer)
+            throws InterruptedException {
+        while (!records.offer(record, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 검증을 마친 기록을 읽은 순서(sequence)대로 다시 세워 배치로 저장한다.
+     * 검증 스레드는 작업을 받은 순서대로 처리하므로, 순서를 기다리며 쌓이는 기록은 검증 스레드 수 정도에 그친다.
+     */
+    private void write(BlockingQueue<ImportRecord> records, ImportProgress progress) throws InterruptedException {
+        PriorityQueue<ImportRecord> reordered = new PriorityQueue<>(Comparator.comparingInt(record -> record.sequence));
+        List<ImportRecord> batch = new ArrayList<>(batchSize);
+        int nextSequence = 1;
+        while (true) {
+            ImportRecord record = records.take();
+            if (record != END) {
+                reordered.add(record);
+            }
+            while (!reordered.isEmpty() && (record == END || reordered.peek().sequence == nextSequence)) {
+                ImportRecord next = reordered.poll();
+                nextSequence = next.sequence + 1;
+                if (next.board == null) {
+                    continue;
+                }
+                batch.add(next);
+                if (batch.size() >= batchSize && !writeBatch(batch, progress)) {
+                    return;
+                }
+            }
+            if (record == END) {
+                if (!batch.isEmpty()) {
+                    writeBatch(batch, progress);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장한다. 실패하면 진행 상황에 실패한 첫 줄을 남기고 false 를 돌려준다.
+     */
+    private boolean writeBatch(List<ImportRecord> batch, ImportProgress progress) {
+        List<Board> boards = batch.stream()
+                .map(record -> record.board)
+                .collect(Collectors.toList());
+        try {
+            batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                boardRepository.saveAll(boards);
+                Map<Long, String> contents = new HashMap<>();
+                batch.forEach(record -> contents.put(record.board.getId(), record.content));
+                boardContentStore.saveAll(contents);
+                entityManager.flush();
+                eventPublisher.publishEvent(new BoardsImportedEvent(batch.stream()
+                        .map(record -> BoardChangedEvent.created(record.board, record.content))
+                        .collect(Collectors.toList())));
+                entityManager.clear();
+            }));
+        } catch (RuntimeException e) {
+            IntSummaryStatistics lines = batch.stream().mapToInt(record -> record.line).summaryStatistics();
+            log.warn("게시글 저장에 실패했습니다. (lines {}~{}, imported={})",
+                    lines.getMin(), lines.getMax(), progress.imported.get(), e);
+            progress.failedLine = lines.getMin();
+            return false;
+        }
+        progress.imported.addAndGet(batch.size());
+        importedCounter.increment(batch.size());
+        batch.clear();
+        return true;
+    }
+
+    private static class ImportRecord {
+
+        private final int sequence;
+
+        private final int line;
+
+        private final Board board;
+
+        private final String content;
+
+        private ImportRecord(int sequence, int line, Board board, String content) {
+            this.sequence = sequence;
+            this.line = line;
+            this.board = board;
+            this.content = content;
+        }
+    }
+
+    private static class ImportProgress {
+
+        private final AtomicInteger total = new AtomicInteger();
+
+        private final AtomicInteger imported = new AtomicInteger();
+
+        private final AtomicInteger rejected = new AtomicInteger();
+
+        private final List<BoardBatchResult> rejects = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile Integer failedLine;
+
+        private void reject(BoardBatchResult result) {
+            if (rejected.incrementAndGet() <= MAX_REJECTS) {
+                rejects.add(result);
+            }
+        }
+
+        private BoardImportResponse toResponse() {
+            List<BoardBatchResult> sorted;
+            synchronized (rejects) {
+                sorted = rejects.stream()
+                        .sorted((left, right) -> Integer.compare(left.getIndex(), right.getIndex()))
+                        .collect(Collectors.toList());
+            }
+            return new BoardImportResponse(total.get(), imported.get(), rejected.get(), sorted,
+                    failedLine, failedLine == null ? null : ExceptionResponse.from(WRITE_FAILED));
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.able.board.service;
 
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardBatchUpdateRequest;
 import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardCursorResponse;
 import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
 import com.able.board.dto.BoardUpdateRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,11 +16,27 @@ public interface BoardService {
 
     BoardResponse create(BoardCreateRequest request);
 
+    BoardResponse create(BoardCreateRequest request, String idempotencyKey);
+
     BoardResponse update(Long boardId, BoardUpdateRequest request);
 
     void delete(Long boardId);
 
-    Page<BoardResponse> findAll(Pageable pageable);
+    List<BoardBatchResult> createAll(List<BoardCreateRequest> requests);
+
+    List<BoardBatchResult> updateAll(List<BoardBatchUpdateRequest> requests);
+
+    List<BoardBatchResult> deleteAll(List<Long> boardIds);
+
+    Page<BoardSummaryResponse> findAll(Pageable pageable);
+
+    BoardCursorResponse findAllByCursor(String cursor, int size);
+
+    BoardCursorResponse findAllByWriter(String writer, String cursor, int size);
+
+    Page<BoardSummaryResponse> search(String query, Pageable pageable);
 
     BoardResponse findById(Long boardId);
+
+    void increaseViewCount(Long boardId);
 }
@@ -1,64 +1,361 @@
 package com.able.board.service;
 
+import com.able.board.cache.BoardWriterCache;
+import com.able.board.datasource.CacheLoadContext;
 import com.able.board.domain.Board;
+import com.able.board.dto.BoardBatchResult;
+import com.able.board.dto.BoardBatchUpdateRequest;
 import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardCursor;
+import com.able.board.dto.BoardCursorResponse;
 import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
 import com.able.board.dto.BoardUpdateRequest;
+import com.able.board.dto.ExceptionResponse;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.exception.BoardNotFoundException;
 import com.able.board.repository.BoardRepository;
+import com.able.board.search.BoardSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = "board")
 public class BoardServiceImpl implements BoardService{
 
+    private static final String INVALID_REQUEST = "잘못된 요청입니다.";
+    private static final String BOARD_NOT_FOUND = BoardNotFoundException.MESSAGE;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardCountCache boardCountCache;
+    private final BoardContentStore boardContentStore;
+    private final BoardIdempotencyStore boardIdempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
 
     @Override
+    @Timed(value = "board.service", histogram = true)
     @Transactional
     public BoardResponse create(BoardCreateRequest request) {
+        return createBoard(request);
+    }
+
+    /**
+     * 같은 키의 재시도는 board 테이블을 건드리지 않고 처음 응답을 돌려준다.
+     * 동시에 들어온 요청이 커밋 전의 결과를 받지 않도록, 트랜잭션은 키 확인 바깥이 아닌 안쪽에서 연다.
+     */
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BoardResponse create(BoardCreateRequest request, String idempotencyKey) {
+        return boardIdempotencyStore.execute(idempotencyKey, request, () -> transactionTemplate.execute(status -> {
+            BoardResponse response = createBoard(request);
+            boardIdempotencyStore.record(idempotencyKey, request, response);
+            return response;
+        }));
+    }
+
+    private BoardResponse createBoard(BoardCreateRequest request) {
         Board board = Board.createBoard(request.getTitle(), request.getContent(), request.getWriter());
         boardRepository.save(board);
-        return BoardResponse.from(board);
+        boardContentStore.save(board.getId(), request.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.created(board, request.getContent()));
+        return BoardResponse.from(board, request.getContent());
     }
 
     @Override
+    @Timed(value = "board.service", histogram = true)
     @Transactional
+    @CacheEvict(key = "#boardId")
     public BoardResponse update(Long boardId, BoardUpdateRequest request) {
-        Board findBoard = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException());
+        int updated = boardRepository.updateTitleAndPreview(boardId, request.getTitle(),
+                Board.preview(request.getContent()), LocalDateTime.now());
+        if (updated == 0) {
+            throw new BoardNotFoundException();
+        }
+        boardContentStore.update(boardId, request.getContent());
 
-        findBoard.changeTitleAndContent(request.getTitle(), request.getContent());
+        Board findBoard = boardRepository.findById(boardId)
+                .orElseThrow(BoardNotFoundException::new);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(findBoard, request.getContent()));
 
-        return BoardResponse.from(findBoard);
+        return BoardResponse.from(findBoard, request.getContent());
     }
 
+    /**
+     * 엔티티를 읽지 않고 지운다. 작성자별 캐시 무효화에 필요한 작성자만 스칼라 조회로 가져오고,
+     * 없는 게시글인지는 삭제된 행 수로만 판단한다.
+     */
     @Override
+    @Timed(value = "board.service", histogram = true)
     @Transactional
+    @CacheEvict(key = "#boardId")
     public void delete(Long boardId) {
-        Board findBoard = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException());
+        String writer = boardRepository.findWriterById(boardId).orElse(null);
+        int deleted = boardRepository.deleteBoardById(boardId);
+        if (deleted == 0) {
+            throw new BoardNotFoundException();
+        }
+        boardContentStore.delete(boardId);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId, writer));
+    }
+
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Transactional
+    public List<BoardBatchResult> createAll(List<BoardCreateRequest> requests) {
+        checkBatchSize(requests);
+        BoardBatchResult[] results = new BoardBatchResult[requests.size()];
+        List<Board> boards = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BoardCreateRequest request = requests.get(i);
+            ExceptionResponse error = validate(request);
+            if (error != null) {
+                results[i] = BoardBatchResult.failure(i, null, error);
+                continue;
+            }
+            boards.add(Board.createBoard(request.getTitle(), request.getContent(), request.getWriter()));
+            contents.add(request.getContent());
+            indexes.add(i);
+        }
+
+        boardRepository.saveAll(boards);
+        Map<Long, String> contentsById = new HashMap<>();
+        for (int i = 0; i < boards.size(); i++) {
+            contentsById.put(boards.get(i).getId(), contents.get(i));
+        }
+        boardContentStore.saveAll(contentsById);
+
+        for (int i = 0; i < boards.size(); i++) {
+            Board board = boards.get(i);
+            results[indexes.get(i)] = BoardBatchResult.success(indexes.get(i), board.getId());
+            eventPublisher.publishEvent(BoardChangedEvent.created(board, contents.get(i)));
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Transactional
+    public List<BoardBatchResult> updateAll(List<BoardBatchUpdateRequest> requests) {
+        checkBatchSize(requests);
+        List<Long> boardIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(BoardBatchUpdateRequest::getBoardId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, Board> boards = boardRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+
+        List<BoardBatchResult> results = new ArrayList<>(requests.size());
+        Map<Long, String> contents = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BoardBatchUpdateRequest request = requests.get(i);
+            ExceptionResponse error = validate(request);
+            if (error != null) {
+                results.add(BoardBatchResult.failure(i, request == null ? null : request.getBoardId(), error));
+                continue;
+            }
+
+            Board board = boards.get(request.getBoardId());
+            if (board == null) {
+                results.add(BoardBatchResult.failure(i, request.getBoardId(), ExceptionResponse.from(BOARD_NOT_FOUND)));
+                continue;
+            }
+            board.changeTitleAndContent(request.getTitle(), request.getContent());
+            contents.put(board.getId(), request.getContent());
+            eventPublisher.publishEvent(BoardChangedEvent.updated(board, request.getContent()));
+            results.add(BoardBatchResult.success(i, board.getId()));
+        }
+        boardContentStore.updateAll(contents);
+        evict(contents.keySet());
+        return results;
+    }
+
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Transactional
+    public List<BoardBatchResult> deleteAll(List<Long> boardIds) {
+        checkBatchSize(boardIds);
+        Map<Long, Board> boards = boardRepository.findAllById(boardIds.stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+
+        boardRepository.deleteAllInBatch(boards.values());
+        boardContentStore.deleteAll(boards.keySet());
+        evict(boards.keySet());
 
-        boardRepository.delete(findBoard);
+        List<BoardBatchResult> results = new ArrayList<>(boardIds.size());
+        for (int i = 0; i < boardIds.size(); i++) {
+            Board board = boardIds.get(i) == null ? null : boards.get(boardIds.get(i));
+            if (board == null) {
+                results.add(BoardBatchResult.failure(i, boardIds.get(i), ExceptionResponse.from(BOARD_NOT_FOUND)));
+                continue;
+            }
+            eventPublisher.publishEvent(BoardChangedEvent.deleted(board));
+            results.add(BoardBatchResult.success(i, board.getId()));
+        }
+        return results;
     }
 
     @Override
-    public Page<BoardResponse> findAll(Pageable pageable) {
-        Page<Board> boards = boardRepository.findAll(pageable);
-        return boards.map(board -> BoardResponse.from(board));
+    @Timed(value = "board.service", histogram = true)
+    public Page<BoardSummaryResponse> findAll(Pageable pageable) {
+        Slice<BoardSummaryResponse> boards = boardRepository.findAllSummaries(pageable);
+        long minimumTotal = pageable.getOffset() + boards.getNumberOfElements() + (boards.hasNext() ? 1 : 0);
+        // 마지막 페이지면 정확한 전체 수를 알고 있으므로, 실제보다 큰 근사값으로 last 가 false 가 되지 않게 한다.
+        return PageableExecutionUtils.getPage(boards.getContent(), pageable,
+                () -> boards.hasNext() ? Math.max(boardCountCache.get(), minimumTotal) : minimumTotal);
     }
 
     @Override
+    @Timed(value = "board.service", histogram = true)
+    public BoardCursorResponse findAllByCursor(String cursor, int size) {
+        Pageable pageable = firstPage(size);
+        if (cursor == null || cursor.isEmpty()) {
+            return BoardCursorResponse.from(boardRepository.findSummariesOrderByCreatedAt(pageable));
+        }
+
+        BoardCursor boardCursor = BoardCursor.decode(cursor);
+        Slice<BoardSummaryResponse> boards = boardRepository.findSummariesByCursor(boardCursor.getCreatedAt(), boardCursor.getBoardId(), pageable);
+        return BoardCursorResponse.from(boards);
+    }
+
+    /**
+     * 작성자별 첫 페이지는 boardWriter 캐시에 두고, 그 작성자의 글이 바뀌면 BoardWriterCache 가 비운다.
+     * findById 와 같은 이유로 sync 로 채워, 조회 도중 커밋된 변경의 evict 가 이전 페이지를 남기지 않게 한다.
+     */
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Cacheable(cacheNames = BoardWriterCache.CACHE_NAME, key = "#writer", sync = true,
+            condition = "(#cursor == null || #cursor.isEmpty()) && #size == T(com.able.board.cache.BoardWriterCache).FIRST_PAGE_SIZE")
+    public BoardCursorResponse findAllByWriter(String writer, String cursor, int size) {
+        return CacheLoadContext.load(() -> findWriterPage(writer, cursor, size));
+    }
+
+    private BoardCursorResponse findWriterPage(String writer, String cursor, int size) {
+        Pageable pageable = firstPage(size);
+        if (cursor == null || cursor.isEmpty()) {
+            return BoardCursorResponse.from(boardRepository.findSummariesByWriter(writer, pageable));
+        }
+
+        BoardCursor boardCursor = BoardCursor.decode(cursor);
+        return BoardCursorResponse.from(boardRepository.findSummariesByWriterAndCursor(
+                writer, boardCursor.getCreatedAt(), boardCursor.getBoardId(), pageable));
+    }
+
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    public Page<BoardSummaryResponse> search(String query, Pageable pageable) {
+        Page<Long> boardIds = boardSearchIndex.search(query, pageable);
+        if (boardIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, boardIds.getTotalElements());
+        }
+
+        Map<Long, BoardSummaryResponse> boards = boardRepository.findSummariesByIdIn(boardIds.getContent()).stream()
+                .collect(Collectors.toMap(BoardSummaryResponse::getBoardId, Function.identity()));
+        List<BoardSummaryResponse> content = boardIds.getContent().stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, boardIds.getTotalElements());
+    }
+
+    /**
+     * sync 로 캐시를 채우면 Caffeine 이 키 단위 compute 안에서 조회하므로, 조회 도중 커밋된 수정의 evict 는 적재가 끝난 뒤 실행되어
+     * 방금 읽은 이전 값을 지운다. sync 없이 get → 조회 → put 으로 채우면 evict 뒤에 이전 값을 다시 넣을 수 있다.
+     * 캐시된 응답은 여러 요청이 함께 보므로 BoardResponse 는 setter 없이 두고, 바꿀 때는 복사본을 만든다.
+     * 레플리카로 라우팅할 때는 CacheLoadContext 로 표시해, 쓰기 직후에는 지연된 레플리카 대신 프라이머리에서 채운다.
+     */
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Cacheable(key = "#boardId", sync = true)
     public BoardResponse findById(Long boardId) {
-        Board findBoard = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException());
-        return BoardResponse.from(findBoard);
+        return CacheLoadContext.load(() -> {
+            Board findBoard = boardRepository.findById(boardId)
+                    .orElseThrow(BoardNotFoundException::new);
+            return BoardResponse.from(findBoard, boardContentStore.find(boardId));
+        });
+    }
+
+    @Override
+    @Timed(value = "board.service", histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void increaseViewCount(Long boardId) {
+        boardViewCounter.increase(boardId);
+    }
+
+    /**
+     * 커서 조회는 size 를 그대로 LIMIT 으로 쓰므로 MAX_PAGE_SIZE 를 넘는 요청은 MAX_PAGE_SIZE 만큼만 읽는다.
+     */
+    private static Pageable firstPage(int size) {
+        return PageRequest.of(0, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static void checkBatchSize(List<?> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 처리할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 일괄 수정/삭제는 캐시 전체가 아니라 바뀐 게시글만 비운다. 트랜잭션 인지 캐시라 커밋 뒤에 지워진다.
+     */
+    private void evict(Set<Long> boardIds) {
+        Cache boardCache = cacheManager.getCache("board");
+        boardIds.forEach(boardCache::evict);
+    }
+
+    private <T> ExceptionResponse validate(T request) {
+        if (request == null) {
+            return ExceptionResponse.from(INVALID_REQUEST);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return ExceptionResponse.from(INVALID_REQUEST, violations);
     }
 }
@@ -0,0 +1,147 @@
+package com.able.board.service;
+
+import com.able.board.dto.BoardResponse;
+import com.able.board.event.BoardChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수를 게시글별 카운터에 모았다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 카운터는 초기화하지 않고 마지막으로 반영한 누계만 기억하므로, 반영 도중 들어온 증가분도 다음 주기에 반영된다.
+ * 반영한 만큼은 board 캐시 항목의 조회수에 더해 두므로, 조회수 때문에 캐시를 비우고 다시 읽지 않는다.
+ * 캐시의 조회수는 반영 주기만큼 늦고, 반영과 캐시 적재가 겹치면 그 주기 증가분만큼 어긋날 수 있다(캐시 TTL 안에서 바로잡힌다).
+ */
+@Slf4j
+@Component
+public class BoardViewCounter {
+
+    private static final String FLUSH_SQL = "update board set view_count = view_count + ? where board_id = ?";
+
+    private final Map<Long, ViewCount> viewCounts = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache boardCache;
+
+    public BoardViewCounter(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardCache = cacheManager.getCache("board");
+    }
+
+    /**
+     * 보통은 맵의 락 없이 카운터만 올린다. 카운터가 없거나 방금 정리된 경우에만 compute 안에서 새 카운터에 올린다.
+     */
+    public void increase(Long boardId) {
+        ViewCount viewCount = viewCounts.get(boardId);
+        if (viewCount != null && viewCount.increment()) {
+            return;
+        }
+        viewCounts.compute(boardId, (key, current) -> {
+            ViewCount live = current == null || current.isRetired() ? new ViewCount() : current;
+            live.increment();
+            return live;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            viewCounts.remove(event.getBoardId());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Long> boardIds = new ArrayList<>();
+        List<ViewCount> flushed = new ArrayList<>();
+        List<Long> totals = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        viewCounts.forEach((boardId, viewCount) -> {
+            long total = viewCount.views.get();
+            if (total > viewCount.flushed) {
+                boardIds.add(boardId);
+                flushed.add(viewCount);
+                totals.add(total);
+                batch.add(new Object[]{total - viewCount.flushed, boardId});
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+
+        Map<Object, Object> cached = cachedBoards();
+        for (int i = 0; i < boardIds.size(); i++) {
+            Long boardId = boardIds.get(i);
+            ViewCount viewCount = flushed.get(i);
+            long views = totals.get(i) - viewCount.flushed;
+            viewCount.flushed = totals.get(i);
+            cached.computeIfPresent(boardId, (key, value) ->
+                    value instanceof BoardResponse ? ((BoardResponse) value).plusViewCount(views) : value);
+            prune(boardId, viewCount);
+        }
+    }
+
+    /**
+     * 다 반영한 카운터는 지워서, 한 번 조회된 게시글마다 항목이 남아 맵이 계속 커지지 않게 한다.
+     * 반영한 누계 그대로일 때만 CAS 로 카운터를 닫고 같은 compute 안에서 항목을 지운다.
+     * 닫힌 카운터에는 증가가 들어가지 않으므로, 그사이 조회는 increase 가 새 카운터에 올려 잃어버리지 않는다.
+     */
+    private void prune(Long boardId, ViewCount viewCount) {
+        viewCounts.computeIfPresent(boardId, (key, current) ->
+                current == viewCount && viewCount.retire() ? null : current);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> cachedBoards() {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) boardCache.getNativeCache()).asMap();
+    }
+
+    private static class ViewCount {
+
+        private static final long RETIRED = -1;
+
+        private final AtomicLong views = new AtomicLong();
+
+        private volatile long flushed;
+
+        private boolean increment() {
+            long current;
+            do {
+                current = views.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!views.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private boolean retire() {
+            return views.compareAndSet(flushed, RETIRED);
+        }
+
+        private boolean isRetired() {
+            return views.get() == RETIRED;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.able.board.startup;
+
+import com.able.board.dto.BoardSummaryResponse;
+import com.able.board.service.BoardCountCache;
+import com.able.board.service.BoardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트래픽을 받기 전에 자주 쓰는 경로를 한 번씩 실행해 커넥션 풀, JPA 쿼리 계획, 캐시, Jackson 직렬화기를 데운다.
+ * ApplicationRunner 가 끝난 뒤에야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로,
+ * /actuator/health/readiness 는 워밍업이 끝나야 UP 을 반환한다.
+ * exit-on-complete 는 AppCDS 아카이브를 만드는 학습 실행에서 워밍업 직후 종료하기 위해 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.warmup.enabled", havingValue = "true")
+public class BoardWarmupRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final BoardService boardService;
+    private final BoardCountCache boardCountCache;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+    private final int iterations;
+    private final boolean exitOnComplete;
+
+    public BoardWarmupRunner(BoardService boardService,
+                             BoardCountCache boardCountCache,
+                             ObjectMapper objectMapper,
+                             ConfigurableApplicationContext context,
+                             @Value("${board.warmup.iterations:3}") int iterations,
+                             @Value("${board.warmup.exit-on-complete:false}") boolean exitOnComplete) {
+        this.boardService = boardService;
+        this.boardCountCache = boardCountCache;
+        this.objectMapper = objectMapper;
+        this.context = context;
+        this.iterations = iterations;
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        boardCountCache.refresh();
+        for (int i = 0; i < iterations; i++) {
+            Page<BoardSummaryResponse> page = boardService.findAll(PageRequest.of(0, PAGE_SIZE));
+            objectMapper.writeValueAsBytes(page);
+            objectMapper.writeValueAsBytes(boardService.findAllByCursor(null, PAGE_SIZE));
+            for (BoardSummaryResponse board : page.getContent()) {
+                objectMapper.writeValueAsBytes(boardService.findById(board.getBoardId()));
+            }
+        }
+        log.info("워밍업 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.able.board.stream;
+
+import com.able.board.dto.BoardStreamEvent;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커밋된 게시글 변경을 SSE 구독자에게 전달한다.
+ * 발행은 구독자별 크기 제한 큐에 넣기만 하고, 실제 전송은 소수의 전송 스레드가 구독자 단위로 이어서 처리한다.
+ * 큐가 가득 찬 느린 구독자는 연결을 끊고, 재접속 시 Last-Event-ID 이후의 이벤트를 최근 이벤트 링 버퍼에서 다시 보낸다.
+ * 이벤트 ID 는 "인스턴스-순번" 형식이다. 다른 인스턴스나 재시작 이전의 ID, 또는 다시 보낼 수 없을 만큼 오래된 ID 로
+ * 재접속하면 reset 이벤트를 보내 클라이언트가 목록을 새로 읽게 한다.
+ * <p>
+ * {@code emitter.send} 는 블로킹 서블릿 쓰기라서, 응답을 읽지 않는 클라이언트 하나가 전송 스레드를 붙잡을 수 있다.
+ * 전송이 send-timeout 을 넘기면 그 구독자를 끊고, 붙잡힌 스레드 수만큼(최대 max-stalled-senders) 전송 스레드를 늘려
+ * 다른 구독자의 전송이 밀리지 않게 한다. 붙잡힌 쓰기는 Tomcat 의 connection-timeout 에서 실패하며 풀려나고,
+ * 그때 늘렸던 스레드도 돌려놓는다. 에미터 완료는 항상 그 구독자를 전송하는 스레드가 맡아,
+ * 발행 쪽이 붙잡힌 전송의 락을 기다리지 않는다.
+ * 하트비트와 붙잡힌 전송 점검은 공용 @Scheduled 스레드가 아닌 전용 스레드에서 돌려, DB 를 쓰는 다른 예약 작업이
+ * 늦어져도 send-timeout 이 지켜지게 한다.
+ */
+@Slf4j
+@Component
+public class BoardEventStream {
+
+    static final String RESET = "reset";
+
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0, null, null);
+
+    private final String instanceId = Long.toHexString(System.currentTimeMillis());
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final StreamEvent[] recentEvents;
+
+    private long sequence;
+
+    private final ObjectMapper objectMapper;
+
+    private final ThreadPoolExecutor sender;
+
+    private final ScheduledExecutorService monitor;
+
+    private final int senderThreads;
+
+    private final int maxStalledSenders;
+
+    private int stalledSenders;
+
+    private final int bufferSize;
+
+    private final Duration timeout;
+
+    private final long sendTimeoutNanos;
+
+    private final Counter evicted;
+
+    private final Counter stalled;
+
+    public BoardEventStream(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${board.stream.replay-size:1024}") int replaySize,
+                            @Value("${board.stream.buffer-size:256}") int bufferSize,
+                            @Value("${board.stream.sender-threads:4}") int senderThreads,
+                            @Value("${board.stream.max-stalled-senders:32}") int maxStalledSenders,
+                            @Value("${board.stream.timeout:30m}") Duration timeout,
+                            @Value("${board.stream.send-timeout:5s}") Duration sendTimeout,
+                            @Value("${board.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+                            @Value("${board.stream.stall-check-interval-ms:1000}") long stallCheckIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.recentEvents = new StreamEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senderThreads = senderThreads;
+        this.maxStalledSenders = maxStalledSenders;
+        // 구독자마다 대기 중인 drain 작업은 많아야 하나라서 작업 큐는 구독자 수를 넘지 않는다.
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads + maxStalledSenders, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("board-stream-"));
+        this.evicted = meterRegistry.counter("board.stream.evicted", "reason", "overflow");
+        this.stalled = meterRegistry.counter("board.stream.evicted", "reason", "stalled");
+        Gauge.builder("board.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+        Gauge.builder("board.stream.stalled-senders", this, stream -> stream.stalledSenders()).register(meterRegistry);
+        this.monitor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("board-stream-monitor-"));
+        monitor.scheduleWithFixedDelay(() -> runQuietly(this::heartbeat),
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        monitor.scheduleWithFixedDelay(() -> runQuietly(this::evictStalled),
+                stallCheckIntervalMs, stallCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        publish(event.getType().name().toLowerCase(Locale.ROOT), write(BoardStreamEvent.from(event)));
+    }
+
+    /**
+     * 가져오기 배치는 행마다 보내지 않고 reset 한 번으로 알려, 클라이언트가 목록을 새로 읽게 한다.
+     */
+    @TransactionalEventListener
+    public void onBoardsImported(BoardsImportedEvent event) {
+        publish(RESET, "{}");
+    }
+
+    private void publish(String name, String data) {
+        synchronized (this) {
+            StreamEvent streamEvent = new StreamEvent(++sequence, name, data);
+            recentEvents[(int) (streamEvent.sequence % recentEvents.length)] = streamEvent;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(streamEvent);
+            }
+        }
+    }
+
+    /**
+     * 프록시나 로드밸런서가 유휴 연결을 끊지 않도록, 그리고 끊어진 연결을 찾아내도록 주기적으로 주석을 보낸다.
+     */
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    /**
+     * 전송 하나가 send-timeout 을 넘기면 그 구독자를 끊고, 붙잡힌 스레드 대신 일할 전송 스레드를 하나 더 둔다.
+     */
+    void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos && subscribers.remove(subscriber)) {
+                stalled.increment();
+                subscriber.stall();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        monitor.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    /**
+     * 예외가 나면 ScheduledExecutorService 가 이후 실행을 멈추므로, 기록만 하고 다음 주기에 다시 돈다.
+     */
+    private static void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("SSE 점검 작업 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - recentEvents.length + 1);
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldest
+                || sequence - lastSequence > bufferSize) {
+            subscriber.offer(new StreamEvent(0, RESET, "{}"));
+            return;
+        }
+        for (long s = lastSequence + 1; s <= sequence; s++) {
+            subscriber.offer(recentEvents[(int) (s % recentEvents.length)]);
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(instanceId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String write(BoardStreamEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evicted.increment();
+            subscriber.close();
+        }
+    }
+
+    private synchronized int stalledSenders() {
+        return stalledSenders;
+    }
+
+    private synchronized boolean addSender() {
+        if (stalledSenders >= maxStalledSenders) {
+            return false;
+        }
+        stalledSenders++;
+        sender.setCorePoolSize(senderThreads + stalledSenders);
+        return true;
+    }
+
+    private synchronized void releaseSender() {
+        stalledSenders--;
+        sender.setCorePoolSize(senderThreads + stalledSenders);
+    }
+
+    private static class StreamEvent {
+
+        private final long sequence;
+
+        private final String name;
+
+        private final String data;
+
+        private StreamEvent(long sequence, String name, String data) {
+            this.sequence = sequence;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 진행 중인 전송의 시작 시각(System.nanoTime). 전송 중이 아니면 0 이다. */
+        private volatile long sendStartedAt;
+
+        private volatile boolean closed;
+
+        private volatile boolean compensated;
+
+        private boolean completed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(StreamEvent event) {
+            if (!queue.offer(event)) {
+                evict(this);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * 더 보내지 않고 에미터 완료를 전송 스레드에 맡긴다. 진행 중인 전송이 있으면 그 전송이 끝난 뒤 완료된다.
+         */
+        private void close() {
+            closed = true;
+            queue.clear();
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void stall() {
+            compensated = addSender();
+            close();
+        }
+
+        /**
+         * 한 구독자의 전송은 항상 하나의 스레드만 맡으므로 이벤트 순서가 유지되고, 에미터 완료도 이 스레드에서만 한다.
+         */
+        private void drain() {
+            try {
+                StreamEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(toSse(event));
+                    sendStartedAt = 0;
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패, 구독 해제: {}", e.getMessage());
+                subscribers.remove(this);
+                closed = true;
+                completed = true;
+                queue.clear();
+                return;
+            } finally {
+                sendStartedAt = 0;
+                if (compensated) {
+                    compensated = false;
+                    releaseSender();
+                }
+                draining.set(false);
+            }
+            if ((closed ? !completed : !queue.isEmpty()) && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toSse(StreamEvent event) {
+            if (event == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name).data(event.data, MediaType.APPLICATION_JSON);
+            if (event.sequence > 0) {
+                builder.id(instanceId + "-" + event.sequence);
+            }
+            return builder;
+        }
+    }
+}
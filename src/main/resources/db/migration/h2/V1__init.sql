@@ -0,0 +1,31 @@
+create sequence board_seq start with 1 increment by 50;
+
+create table board (
+    board_id   bigint not null,
+    title      varchar(255),
+    preview    varchar(100),
+    writer     varchar(255),
+    created_at timestamp,
+    updated_at timestamp,
+    view_count bigint not null,
+    primary key (board_id)
+);
+
+create index idx_board_created_at_id on board (created_at, board_id);
+
+create table board_content (
+    board_id        bigint  not null,
+    data            blob    not null,
+    compressed      boolean not null,
+    original_length integer not null,
+    primary key (board_id)
+);
+
+create table board_idempotency_key (
+    idempotency_key varchar(100) not null,
+    response        clob         not null,
+    created_at      timestamp    not null,
+    primary key (idempotency_key)
+);
+
+create index idx_board_idempotency_key_created_at on board_idempotency_key (created_at);
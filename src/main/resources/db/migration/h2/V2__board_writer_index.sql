@@ -0,0 +1 @@
+create index idx_board_writer_created_at_id on board (writer, created_at, board_id);
@@ -0,0 +1,10 @@
+create table board_cache_invalidation (
+    invalidation_id bigint generated by default as identity,
+    origin          varchar(36) not null,
+    board_id        bigint,
+    writer          varchar(255),
+    published_at    timestamp   not null,
+    primary key (invalidation_id)
+);
+
+create index idx_board_cache_invalidation_published_at on board_cache_invalidation (published_at);
@@ -0,0 +1,123 @@
+package com.able.board.cache;
+
+import com.able.board.BoardApplication;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardUpdateRequest;
+import com.able.board.service.BoardService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 DB 를 쓰는 두 인스턴스를 띄워, 한쪽의 수정이 다른 쪽 board 캐시에서 지워지기까지 걸리는 시간을 잰다.
+ * 다른 쪽 목록 ETag 도 함께 바뀌는지 확인한다.
+ */
+class BoardCacheInvalidationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardCacheInvalidationTest.class);
+
+    private static final int ROUNDS = 20;
+
+    private static final long MAX_LAG_MILLIS = 2000;
+
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        Collections.reverse(contexts);
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"udp", "outbox"})
+    void invalidatePeerCacheAfterUpdate(String transport) throws Exception {
+        String database = "jdbc:h2:mem:invalidation-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        int portA = freeUdpPort();
+        int portB = freeUdpPort();
+        ConfigurableApplicationContext a = start(database, "create", transport, portA, portB);
+        ConfigurableApplicationContext b = start(database, "none", transport, portB, portA);
+
+        BoardService serviceA = a.getBean(BoardService.class);
+        BoardService serviceB = b.getBean(BoardService.class);
+        Cache boardCacheB = b.getBean(CacheManager.class).getCache("board");
+        BoardJsonCache jsonCacheB = b.getBean(BoardJsonCache.class);
+        Pageable firstPage = PageRequest.of(0, 10);
+        Long boardId = serviceA.create(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원")).getBoardId();
+        // 생성 무효화가 먼저 도착해 B 가 캐시한 항목을 지우지 않도록 기다린다.
+        Counter receivedB = b.getBean(MeterRegistry.class).counter("board.cache.invalidation.received");
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_LAG_MILLIS);
+        while (receivedB.count() < 1) {
+            assertTrue(System.nanoTime() < deadline, transport + " 생성 무효화가 도착하지 않았습니다.");
+            Thread.sleep(1);
+        }
+
+        long maxLagNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            serviceB.findById(boardId);
+            assertNotNull(boardCacheB.get(boardId));
+            String listEtagB = jsonCacheB.listEtag(firstPage);
+
+            long start = System.nanoTime();
+            serviceA.update(boardId, new BoardUpdateRequest("제목 " + i, "내용 " + i));
+            while (boardCacheB.get(boardId) != null) {
+                assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(MAX_LAG_MILLIS),
+                        transport + " 무효화가 " + MAX_LAG_MILLIS + "ms 안에 도착하지 않았습니다.");
+                Thread.sleep(1);
+            }
+            maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - start);
+
+            assertNotEquals(listEtagB, jsonCacheB.listEtag(firstPage));
+
+            assertEquals("제목 " + i, serviceB.findById(boardId).getTitle());
+        }
+
+        Timer lag = b.getBean(MeterRegistry.class).get("board.cache.invalidation.lag").timer();
+        assertTrue(lag.count() >= ROUNDS);
+        log.debug("{} invalidation lag: end-to-end max {}ms, received mean {}ms max {}ms ({} rounds)",
+                transport, maxLagNanos / 1_000_000.0, lag.mean(TimeUnit.MILLISECONDS), lag.max(TimeUnit.MILLISECONDS), ROUNDS);
+    }
+
+    private ConfigurableApplicationContext start(String database, String ddlAuto, String transport, int port, int peerPort) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + database,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "logging.level.org.hibernate.SQL=warn",
+                        "board.cache.invalidation.transport=" + transport,
+                        "board.cache.invalidation.udp.port=" + port,
+                        "board.cache.invalidation.udp.peers=localhost:" + peerPort,
+                        "board.cache.invalidation.outbox.poll-interval-ms=20")
+                .run();
+        contexts.add(context);
+        return context;
+    }
+
+    private static int freeUdpPort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
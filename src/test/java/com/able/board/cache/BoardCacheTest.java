@@ -0,0 +1,117 @@
+package com.able.board.cache;
+
+import com.able.board.dto.BoardBatchUpdateRequest;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardUpdateRequest;
+import com.able.board.service.BoardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BoardCacheTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findByIdIsCachedUntilUpdateCommits() {
+        Cache boardCache = cacheManager.getCache("board");
+        Long boardId = boardService.create(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원")).getBoardId();
+
+        BoardResponse first = boardService.findById(boardId);
+
+        assertSame(first, boardService.findById(boardId));
+        assertNotNull(boardCache.get(boardId));
+
+        boardService.update(boardId, new BoardUpdateRequest("수정한 제목", "수정한 내용"));
+
+        assertNull(boardCache.get(boardId));
+        assertEquals("수정한 제목", boardService.findById(boardId).getTitle());
+    }
+
+    @Test
+    void updateAllEvictsOnlyUpdatedBoards() {
+        Cache boardCache = cacheManager.getCache("board");
+        Long updatedId = boardService.create(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원")).getBoardId();
+        Long untouchedId = boardService.create(new BoardCreateRequest("그대로", "그대로 둘 글", "황철원")).getBoardId();
+        boardService.findById(updatedId);
+        boardService.findById(untouchedId);
+
+        boardService.updateAll(Collections.singletonList(new BoardBatchUpdateRequest(updatedId, "수정한 제목", "수정한 내용")));
+
+        assertNull(boardCache.get(updatedId));
+        assertNotNull(boardCache.get(untouchedId));
+    }
+
+    @Test
+    void deleteEvictsWritersFirstPage() {
+        Cache writerCache = cacheManager.getCache(BoardWriterCache.CACHE_NAME);
+        Long boardId = boardService.create(new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "삭제할작성자")).getBoardId();
+
+        boardService.findAllByWriter("삭제할작성자", null, BoardWriterCache.FIRST_PAGE_SIZE);
+        assertNotNull(writerCache.get("삭제할작성자"));
+
+        boardService.delete(boardId);
+
+        assertNull(writerCache.get("삭제할작성자"));
+        assertTrue(boardService.findAllByWriter("삭제할작성자", null, BoardWriterCache.FIRST_PAGE_SIZE).getContent().isEmpty());
+    }
+
+    @Test
+    void evictDuringLoadDropsLoadedValue() throws Exception {
+        assertStaleLoadIsEvicted(cacheManager.getCache("board"), -1L);
+    }
+
+    @Test
+    void evictDuringWriterLoadDropsLoadedPage() throws Exception {
+        assertStaleLoadIsEvicted(cacheManager.getCache(BoardWriterCache.CACHE_NAME), "작성자");
+    }
+
+    /**
+     * 적재 도중 커밋된 수정의 evict 가 적재를 기다렸다가 이전 값을 지우는지 확인한다.
+     */
+    private void assertStaleLoadIsEvicted(Cache cache, Object key) throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> load = executor.submit(() -> cache.get(key, () -> {
+            loading.countDown();
+            release.await();
+            return "이전 값";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<Boolean> evict = executor.submit(() -> cache.evictIfPresent(key));
+        Thread.sleep(50);
+        assertFalse(evict.isDone());
+
+        release.countDown();
+
+        assertEquals("이전 값", load.get(5, TimeUnit.SECONDS));
+        assertTrue(evict.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get(key));
+    }
+}
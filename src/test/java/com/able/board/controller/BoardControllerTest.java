@@ -1,10 +1,20 @@
 package com.able.board.controller;
 
+import com.able.board.cache.BoardJsonCache;
+import com.able.board.dto.BoardBatchResult;
 import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardCursorResponse;
+import com.able.board.dto.BoardImportResponse;
 import com.able.board.dto.BoardResponse;
+import com.able.board.dto.BoardSummaryResponse;
 import com.able.board.dto.BoardUpdateRequest;
 import com.able.board.dto.ExceptionResponse;
+import com.able.board.exception.BoardNotFoundException;
+import com.able.board.exception.IdempotencyKeyMismatchException;
+import com.able.board.service.BoardExportService;
+import com.able.board.service.BoardImportService;
 import com.able.board.service.BoardService;
+import com.able.board.stream.BoardEventStream;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,17 +40,27 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
@@ -49,16 +70,27 @@ import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureRestDocs
 @ExtendWith(RestDocumentationExtension.class)
 @WebMvcTest(BoardController.class)
+@Import(BoardJsonCache.class)
 class BoardControllerTest {
 
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private BoardExportService boardExportService;
+
+    @MockBean
+    private BoardImportService boardImportService;
+
+    @MockBean
+    private BoardEventStream boardEventStream;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -108,7 +140,7 @@ class BoardControllerTest {
     @Test
     void create() throws Exception {
         BoardCreateRequest boardCreateRequest = new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원");
-        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now());
+        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         given(boardService.create(any()))
                 .willReturn(boardResponse);
@@ -131,7 +163,126 @@ class BoardControllerTest {
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
                                 fieldWithPath("writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("createdAt").type(JsonFieldType.STRING).description("작성일"),
-                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일")
+                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일"),
+                                fieldWithPath("viewCount").type(JsonFieldType.NUMBER).description("조회수")
+                        )
+                ));
+    }
+
+    @Test
+    void createWithIdempotencyKey() throws Exception {
+        BoardCreateRequest boardCreateRequest = new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원");
+        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now(), 0L);
+
+        given(boardService.create(any(), eq("3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c")))
+                .willReturn(boardResponse);
+
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(boardCreateRequest))
+                        .accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(boardResponse)))
+                .andDo(document("board/createIdempotent",
+                        requestHeaders(
+                                headerWithName("Idempotency-Key").description("재시도 시 같은 값을 보내면 처음 생성된 게시글을 그대로 돌려준다. (최대 100자)")
+                        )
+                ));
+
+        verify(boardService, never()).create(any());
+    }
+
+    @Test
+    void createWithReusedIdempotencyKey() throws Exception {
+        BoardCreateRequest boardCreateRequest = new BoardCreateRequest("안녕하세요", "다른 내용", "황철원");
+        IdempotencyKeyMismatchException exception = new IdempotencyKeyMismatchException("3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c");
+
+        given(boardService.create(any(), eq("3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c")))
+                .willThrow(exception);
+
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(boardCreateRequest))
+                        .accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().json(objectMapper.writeValueAsString(ExceptionResponse.from(exception.getMessage()))));
+    }
+
+    @Test
+    void createAll() throws Exception {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("title", "게시글 제목은 필수입니다.");
+
+        BoardCreateRequest valid = new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원");
+        BoardCreateRequest invalid = new BoardCreateRequest(null, "여러분 ㅎㅇ여", "황철원");
+        List<BoardBatchResult> results = Arrays.asList(
+                BoardBatchResult.success(0, 1L),
+                BoardBatchResult.failure(1, null, ExceptionResponse.from("잘못된 요청입니다.", errors)));
+
+        given(boardService.createAll(any()))
+                .willReturn(results);
+
+        mockMvc.perform(post("/boards:batch")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(valid, invalid)))
+                        .accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(results)))
+                .andDo(document("board/createAll",
+                        requestFields(
+                                fieldWithPath("[].title").type(JsonFieldType.STRING).description("제목").optional(),
+                                fieldWithPath("[].content").type(JsonFieldType.STRING).description("내용"),
+                                fieldWithPath("[].writer").type(JsonFieldType.STRING).description("작성자")
+                        ),
+                        responseFields(
+                                fieldWithPath("[].index").type(JsonFieldType.NUMBER).description("요청 순번"),
+                                fieldWithPath("[].boardId").type(JsonFieldType.NUMBER).description("게시글 ID").optional(),
+                                fieldWithPath("[].success").type(JsonFieldType.BOOLEAN).description("처리 성공 여부"),
+                                fieldWithPath("[].error").type(JsonFieldType.OBJECT).description("실패 사유").optional(),
+                                fieldWithPath("[].error.message").type(JsonFieldType.STRING).description("예외 메세지").optional(),
+                                fieldWithPath("[].error.attributes").type(JsonFieldType.OBJECT).description("예외 필드").optional(),
+                                fieldWithPath("[].error.attributes.title").type(JsonFieldType.STRING).description("필드 오류").optional()
+                        )
+                ));
+    }
+
+    @Test
+    void importBoards() throws Exception {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("title", "게시글 제목은 필수입니다.");
+
+        String body = "{\"title\":\"안녕하세요\",\"content\":\"여러분 ㅎㅇ여\",\"writer\":\"황철원\"}\n"
+                + "{\"content\":\"여러분 ㅎㅇ여\",\"writer\":\"황철원\"}\n";
+        BoardImportResponse result = new BoardImportResponse(2, 1, 1, Arrays.asList(
+                BoardBatchResult.failure(2, null, ExceptionResponse.from("잘못된 요청입니다.", errors))), null, null);
+
+        given(boardImportService.importBoards(any()))
+                .willReturn(result);
+
+        mockMvc.perform(post("/boards:import")
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(result)))
+                .andDo(document("board/import",
+                        responseFields(
+                                fieldWithPath("total").type(JsonFieldType.NUMBER).description("읽은 줄 수"),
+                                fieldWithPath("imported").type(JsonFieldType.NUMBER).description("저장된 게시글 수"),
+                                fieldWithPath("rejected").type(JsonFieldType.NUMBER).description("거부된 줄 수"),
+                                fieldWithPath("rejects").type(JsonFieldType.ARRAY).description("거부 사유 (최대 1000건)"),
+                                fieldWithPath("rejects.[].index").type(JsonFieldType.NUMBER).description("줄 번호"),
+                                fieldWithPath("rejects.[].boardId").type(JsonFieldType.NULL).description("게시글 ID").optional(),
+                                fieldWithPath("rejects.[].success").type(JsonFieldType.BOOLEAN).description("처리 성공 여부"),
+                                fieldWithPath("rejects.[].error").type(JsonFieldType.OBJECT).description("실패 사유"),
+                                fieldWithPath("rejects.[].error.message").type(JsonFieldType.STRING).description("예외 메세지"),
+                                fieldWithPath("rejects.[].error.attributes").type(JsonFieldType.OBJECT).description("예외 필드").optional(),
+                                fieldWithPath("rejects.[].error.attributes.title").type(JsonFieldType.STRING).description("필드 오류").optional(),
+                                fieldWithPath("failedLine").type(JsonFieldType.NUMBER).description("저장에 실패해 멈춘 첫 줄 (이 줄부터 다시 보낸다)").optional(),
+                                fieldWithPath("failure").type(JsonFieldType.OBJECT).description("저장 실패 사유").optional(),
+                                fieldWithPath("failure.message").type(JsonFieldType.STRING).description("예외 메세지").optional()
                         )
                 ));
     }
@@ -139,7 +290,7 @@ class BoardControllerTest {
     @Test
     void update() throws Exception {
         BoardUpdateRequest boardUpdateRequest = new BoardUpdateRequest("안녕하세요", "여러분 ㅎㅇ여");
-        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now());
+        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         given(boardService.update(any(), any()))
                 .willReturn(boardResponse);
@@ -164,7 +315,8 @@ class BoardControllerTest {
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
                                 fieldWithPath("writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("createdAt").type(JsonFieldType.STRING).description("작성일"),
-                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일")
+                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일"),
+                                fieldWithPath("viewCount").type(JsonFieldType.NUMBER).description("조회수")
                         )
                 ));
     }
@@ -187,8 +339,8 @@ class BoardControllerTest {
     @Test
     void findAll() throws Exception {
 
-        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now());
-        Page<BoardResponse> result = new PageImpl<>(Arrays.asList(boardResponse), PageRequest.of(0, 10), 1);
+        BoardSummaryResponse boardResponse = new BoardSummaryResponse(1L, "안녕하세요", "황철원", LocalDateTime.now(), "여러분 ㅎㅇ여");
+        Page<BoardSummaryResponse> result = new PageImpl<>(Arrays.asList(boardResponse), PageRequest.of(0, 10), 1);
 
         given(boardService.findAll(any()))
                 .willReturn(result);
@@ -208,10 +360,9 @@ class BoardControllerTest {
                                 fieldWithPath("content").type(JsonFieldType.ARRAY).description("조회 결과 배열"),
                                 fieldWithPath("content.[].boardId").type(JsonFieldType.NUMBER).description("게시글 번호"),
                                 fieldWithPath("content.[].title").type(JsonFieldType.STRING).description("제목"),
-                                fieldWithPath("content.[].content").type(JsonFieldType.STRING).description("내용"),
                                 fieldWithPath("content.[].writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("content.[].createdAt").type(JsonFieldType.STRING).description("작성일"),
-                                fieldWithPath("content.[].updatedAt").type(JsonFieldType.STRING).description("수정일"),
+                                fieldWithPath("content.[].preview").type(JsonFieldType.STRING).description("내용 미리보기 (최대 100자)"),
                                 fieldWithPath("pageable.sort.sorted").type(JsonFieldType.BOOLEAN).description("정렬 여부 "),
                                 fieldWithPath("pageable.sort.unsorted").type(JsonFieldType.BOOLEAN).description("비정렬 여부"),
                                 fieldWithPath("pageable.sort.empty").type(JsonFieldType.BOOLEAN).description("값이 비었는지 여부"),
@@ -221,8 +372,8 @@ class BoardControllerTest {
                                 fieldWithPath("pageable.paged").type(JsonFieldType.BOOLEAN).description("페이징 여부"),
                                 fieldWithPath("pageable.unpaged").type(JsonFieldType.BOOLEAN).description("비페이징 여부"),
                                 fieldWithPath("last").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부"),
-                                fieldWithPath("totalPages").type(JsonFieldType.NUMBER).description("총 페이지 수"),
-                                fieldWithPath("totalElements").type(JsonFieldType.NUMBER).description("총 결과 수"),
+                                fieldWithPath("totalPages").type(JsonFieldType.NUMBER).description("총 페이지 수 (근사값)"),
+                                fieldWithPath("totalElements").type(JsonFieldType.NUMBER).description("총 결과 수 (근사값)"),
                                 fieldWithPath("size").type(JsonFieldType.NUMBER).description("페이지 크기"),
                                 fieldWithPath("number").type(JsonFieldType.NUMBER).description("페이지 번호"),
                                 fieldWithPath("sort.sorted").type(JsonFieldType.BOOLEAN).description("정렬여부"),
@@ -235,9 +386,146 @@ class BoardControllerTest {
                 ));
     }
 
+    @Test
+    void findAllByCursor() throws Exception {
+
+        BoardSummaryResponse boardResponse = new BoardSummaryResponse(1L, "안녕하세요", "황철원", LocalDateTime.now(), "여러분 ㅎㅇ여");
+        BoardCursorResponse result = new BoardCursorResponse(Arrays.asList(boardResponse), 1, true, "MjAyMS0xMi0wMVQxMDowMF8x");
+
+        given(boardService.findAllByCursor(any(), anyInt()))
+                .willReturn(result);
+
+        mockMvc.perform(get("/boards")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(result)))
+                .andDo(document("board/findByCursor",
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+                                parameterWithName("size").description("페이지 사이즈")
+                        ),
+                        responseFields(
+                                fieldWithPath("content").type(JsonFieldType.ARRAY).description("조회 결과 배열"),
+                                fieldWithPath("content.[].boardId").type(JsonFieldType.NUMBER).description("게시글 번호"),
+                                fieldWithPath("content.[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("content.[].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("content.[].createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("content.[].preview").type(JsonFieldType.STRING).description("내용 미리보기 (최대 100자)"),
+                                fieldWithPath("size").type(JsonFieldType.NUMBER).description("페이지 크기"),
+                                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional()
+                        )
+                ));
+    }
+
+    @Test
+    void findAllByWriter() throws Exception {
+        BoardSummaryResponse boardResponse = new BoardSummaryResponse(1L, "안녕하세요", "황철원", LocalDateTime.now(), "여러분 ㅎㅇ여");
+        BoardCursorResponse result = new BoardCursorResponse(Arrays.asList(boardResponse), 10, false, null);
+
+        given(boardService.findAllByWriter(eq("황철원"), any(), anyInt()))
+                .willReturn(result);
+
+        mockMvc.perform(get("/boards")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .param("writer", "황철원")
+                        .param("cursor", "")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(result)))
+                .andDo(document("board/findByWriter",
+                        requestParameters(
+                                parameterWithName("writer").description("작성자"),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("size").description("페이지 사이즈").optional()
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("content").type(JsonFieldType.ARRAY).description("작성일 역순 조회 결과 배열"),
+                                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.NULL).description("다음 페이지 커서").optional()
+                        )
+                ));
+    }
+
+    @Test
+    void stream() throws Exception {
+        given(boardEventStream.subscribe(eq("17d3c2a1b0e-41")))
+                .willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/boards/stream")
+                        .header("Last-Event-ID", "17d3c2a1b0e-41")
+                        .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(document("board/stream",
+                        requestHeaders(
+                                headerWithName("Last-Event-ID").description("마지막으로 받은 이벤트 ID. 재접속 시 그 이후 이벤트를 다시 받는다.").optional()
+                        )
+                ));
+    }
+
+    @Test
+    void search() throws Exception {
+
+        BoardSummaryResponse boardResponse = new BoardSummaryResponse(1L, "안녕하세요", "황철원", LocalDateTime.now(), "여러분 ㅎㅇ여");
+        Page<BoardSummaryResponse> result = new PageImpl<>(Arrays.asList(boardResponse), PageRequest.of(0, 10), 1);
+
+        given(boardService.search(any(), any()))
+                .willReturn(result);
+
+        mockMvc.perform(get("/boards/search")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .param("q", "안녕")
+                        .param("size", "10")
+                        .param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(result)))
+                .andDo(document("board/search",
+                        requestParameters(
+                                parameterWithName("q").description("검색어 (제목, 내용)"),
+                                parameterWithName("page").description("페이지 번호"),
+                                parameterWithName("size").description("페이지 사이즈")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("content").type(JsonFieldType.ARRAY).description("검색 결과 배열 (관련도 순)"),
+                                fieldWithPath("content.[].boardId").type(JsonFieldType.NUMBER).description("게시글 번호"),
+                                fieldWithPath("content.[].title").type(JsonFieldType.STRING).description("제목"),
+                                fieldWithPath("content.[].writer").type(JsonFieldType.STRING).description("작성자"),
+                                fieldWithPath("content.[].createdAt").type(JsonFieldType.STRING).description("작성일"),
+                                fieldWithPath("content.[].preview").type(JsonFieldType.STRING).description("내용 미리보기 (최대 100자)"),
+                                fieldWithPath("totalElements").type(JsonFieldType.NUMBER).description("총 결과 수"),
+                                fieldWithPath("totalPages").type(JsonFieldType.NUMBER).description("총 페이지 수")
+                        )
+                ));
+    }
+
+    @Test
+    void export() throws Exception {
+        String body = "{\"boardId\":1,\"title\":\"안녕하세요\"}\n{\"boardId\":2,\"title\":\"반갑습니다\"}\n";
+
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(boardExportService).export(any(), any());
+
+        mockMvc.perform(get("/boards/export")
+                        .param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(body))
+                .andDo(document("board/export",
+                        requestParameters(
+                                parameterWithName("format").description("내보내기 형식 (ndjson, csv)")
+                        )
+                ));
+    }
+
     @Test
     void findById() throws Exception {
-        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now());
+        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         given(boardService.findById(any()))
                 .willReturn(boardResponse);
@@ -256,8 +544,46 @@ class BoardControllerTest {
                                 fieldWithPath("content").type(JsonFieldType.STRING).description("내용"),
                                 fieldWithPath("writer").type(JsonFieldType.STRING).description("작성자"),
                                 fieldWithPath("createdAt").type(JsonFieldType.STRING).description("작성일"),
-                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일")
+                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정일"),
+                                fieldWithPath("viewCount").type(JsonFieldType.NUMBER).description("조회수")
+                        )
+                ));
+    }
+
+    @Test
+    void findByIdNotModified() throws Exception {
+        BoardResponse boardResponse = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", LocalDateTime.now(), LocalDateTime.now(), 0L);
+
+        given(boardService.findById(any()))
+                .willReturn(boardResponse, boardResponse.plusViewCount(5));
+
+        String etag = mockMvc.perform(get("/boards/{boardId}", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/boards/{boardId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void findByIdNotFound() throws Exception {
+        given(boardService.findById(any()))
+                .willThrow(new BoardNotFoundException());
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/boards/{boardId}", 1L)
+                        .accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(objectMapper.writeValueAsString(ExceptionResponse.from(BoardNotFoundException.MESSAGE))))
+                .andDo(document("board/findByIdNotFound",
+                        pathParameters(
+                                parameterWithName("boardId").description("게시글 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("예외 메세지"),
+                                fieldWithPath("attributes").type(JsonFieldType.NULL).description("예외 필드")
                         )
                 ));
+        verify(boardService, never()).increaseViewCount(any());
     }
-}
\ No newline at end of file
+}
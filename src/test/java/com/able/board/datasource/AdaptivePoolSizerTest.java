@@ -0,0 +1,133 @@
+package com.able.board.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class AdaptivePoolSizerTest {
+
+    private static final String POOL = "board-pool";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+
+    private final HikariConfig config = new HikariConfig();
+
+    private final JdbcTuningProperties properties = new JdbcTuningProperties();
+
+    private Timer acquireTimer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTuningProperties.Adaptive adaptive = properties.getPool().getAdaptive();
+        adaptive.setMinSize(5);
+        adaptive.setMaxSize(12);
+        adaptive.setGrowStep(2);
+        adaptive.setShrinkStep(1);
+        adaptive.setShrinkUtilization(0.5);
+        adaptive.setShrinkAfterChecks(3);
+        adaptive.setWaitThreshold(Duration.ofMillis(20));
+        acquireTimer = meterRegistry.timer("hikaricp.connections.acquire", "pool", POOL);
+    }
+
+    @Test
+    void growsWhileThreadsWaitUpToMaxSize() {
+        AdaptivePoolSizer sizer = sizer(10, 5);
+        given(pool.getThreadsAwaitingConnection()).willReturn(3);
+
+        sizer.adjust();
+        assertEquals(12, config.getMaximumPoolSize());
+
+        sizer.adjust();
+        assertEquals(12, config.getMaximumPoolSize());
+        assertEquals(1, meterRegistry.counter("board.jdbc.pool.resizes", "pool", POOL, "direction", "grow").count());
+    }
+
+    @Test
+    void growsOnlyForWaitsInTheLastInterval() {
+        AdaptivePoolSizer sizer = sizer(8, 5);
+        given(pool.getActiveConnections()).willReturn(6);
+        acquireTimer.record(Duration.ofMillis(100));
+
+        sizer.adjust();
+        assertEquals(10, config.getMaximumPoolSize());
+
+        acquireTimer.record(Duration.ofMillis(1));
+        sizer.adjust();
+        assertEquals(10, config.getMaximumPoolSize());
+    }
+
+    @Test
+    void shrinksOnlyAfterConsecutiveIdleChecks() {
+        AdaptivePoolSizer sizer = sizer(10, 5);
+        given(pool.getActiveConnections()).willReturn(1);
+
+        sizer.adjust();
+        sizer.adjust();
+        given(pool.getActiveConnections()).willReturn(8);
+        sizer.adjust();
+        given(pool.getActiveConnections()).willReturn(1);
+        sizer.adjust();
+        sizer.adjust();
+        assertEquals(10, config.getMaximumPoolSize());
+
+        sizer.adjust();
+        assertEquals(9, config.getMaximumPoolSize());
+        assertEquals(5, config.getMinimumIdle());
+    }
+
+    @Test
+    void doesNotShrinkBelowMinSize() {
+        AdaptivePoolSizer sizer = sizer(5, 5);
+        given(pool.getActiveConnections()).willReturn(0);
+
+        for (int i = 0; i < 6; i++) {
+            sizer.adjust();
+        }
+
+        assertEquals(5, config.getMaximumPoolSize());
+        assertEquals(0, meterRegistry.counter("board.jdbc.pool.resizes", "pool", POOL, "direction", "shrink").count());
+    }
+
+    @Test
+    void fixedSizePoolStaysFixed() {
+        AdaptivePoolSizer sizer = sizer(8, 8);
+        given(pool.getThreadsAwaitingConnection()).willReturn(1);
+
+        sizer.adjust();
+        assertEquals(10, config.getMaximumPoolSize());
+        assertEquals(10, config.getMinimumIdle());
+
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+        given(pool.getActiveConnections()).willReturn(0);
+        for (int i = 0; i < 3; i++) {
+            sizer.adjust();
+        }
+        assertEquals(9, config.getMaximumPoolSize());
+        assertEquals(9, config.getMinimumIdle());
+    }
+
+    private AdaptivePoolSizer sizer(int maximumPoolSize, int minimumIdle) {
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        given(dataSource.getPoolName()).willReturn(POOL);
+        given(dataSource.getHikariPoolMXBean()).willReturn(pool);
+        given(dataSource.getHikariConfigMXBean()).willReturn(config);
+        HikariPoolTuner poolTuner = mock(HikariPoolTuner.class);
+        given(poolTuner.getPools()).willReturn(Collections.singletonList(dataSource));
+        return new AdaptivePoolSizer(poolTuner, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.able.board.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica");
+    private final DataSource brokenReplica = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/broken");
+
+    @BeforeEach
+    void setUp() {
+        ClientContext.set("client-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routeWritesToPrimaryAndReadsToReplicas() {
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(
+                primary, Arrays.asList(replica, replica), Duration.ZERO);
+
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void skipUnhealthyReplica() {
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(
+                primary, Arrays.asList(brokenReplica, replica), Duration.ZERO);
+        dataSource.checkReplicas();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readYourWrites() {
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(
+                primary, Arrays.asList(replica), Duration.ofSeconds(3));
+
+        dataSource.determineCurrentLookupKey();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+        ClientContext.set("client-2");
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void cacheLoadAfterAnyClientsWriteGoesToPrimary() {
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(
+                primary, Arrays.asList(replica), Duration.ofSeconds(3));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica-0", CacheLoadContext.load(dataSource::determineCurrentLookupKey));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.determineCurrentLookupKey();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ClientContext.set("client-2");
+        assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        assertEquals(ReplicationRoutingDataSource.PRIMARY, CacheLoadContext.load(dataSource::determineCurrentLookupKey));
+    }
+}
@@ -0,0 +1,71 @@
+package com.able.board.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final int BURST = 3;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setWrite(new RateLimitProperties.Limit(0.001, BURST));
+        properties.setApiKeys(Collections.singleton("partner-key"));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new PoolWaitMonitor(meterRegistry, Duration.ofMillis(100)),
+                new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void rotatingClientHeadersDoNotGetFreshBuckets() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), post("10.0.0.1", "X-Client-Id", "scraper-" + i));
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), post("10.0.0.1", "X-Client-Id", "scraper-" + BURST));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), post("10.0.0.1", "X-Api-Key", "unknown-key"));
+    }
+
+    @Test
+    void clientsAreLimitedByIp() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            post("10.0.0.1", null, null);
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), post("10.0.0.1", null, null));
+        assertEquals(HttpStatus.OK.value(), post("10.0.0.2", null, null));
+    }
+
+    @Test
+    void allowListedApiKeyHasOwnBucket() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            post("10.0.0.1", null, null);
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), post("10.0.0.1", null, null));
+        assertEquals(HttpStatus.OK.value(), post("10.0.0.1", "X-Api-Key", "partner-key"));
+    }
+
+    private int post(String remoteAddr, String header, String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/boards");
+        request.setRemoteAddr(remoteAddr);
+        if (header != null) {
+            request.addHeader(header, value);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
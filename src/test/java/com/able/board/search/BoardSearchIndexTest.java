@@ -0,0 +1,31 @@
+package com.able.board.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSearchIndexTest {
+
+    @Test
+    void changesDuringRebuildWinOverStaleRows() {
+        BoardSearchIndex searchIndex = new BoardSearchIndex();
+        searchIndex.index(1L, "스프링 게시판", "게시판 만들기");
+        searchIndex.index(2L, "자바", "람다와 스트림");
+
+        InvertedIndex rebuilding = searchIndex.beginRebuild();
+        searchIndex.remove(1L);
+        searchIndex.index(2L, "코틀린", "코루틴");
+        searchIndex.rebuildIndex(rebuilding, 1L, "스프링 게시판", "게시판 만들기");
+        searchIndex.rebuildIndex(rebuilding, 2L, "자바", "람다와 스트림");
+        searchIndex.rebuildIndex(rebuilding, 3L, "오늘의 날씨", "맑음");
+        searchIndex.finishRebuild(rebuilding);
+
+        assertTrue(searchIndex.search("스프링", PageRequest.of(0, 10)).isEmpty());
+        assertTrue(searchIndex.search("자바", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(Collections.singletonList(2L), searchIndex.search("코틀린", PageRequest.of(0, 10)).getContent());
+        assertEquals(Collections.singletonList(3L), searchIndex.search("날씨", PageRequest.of(0, 10)).getContent());
+    }
+}
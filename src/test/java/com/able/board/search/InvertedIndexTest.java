@@ -0,0 +1,44 @@
+package com.able.board.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenize() {
+        assertEquals(Arrays.asList("스프", "프링", "spring", "boot", "글"),
+                InvertedIndex.tokenize("스프링 Spring-Boot 글"));
+    }
+
+    @Test
+    void search() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "스프링 게시판", "게시판 만들기");
+        index.index(2L, "오늘의 날씨", "스프링이 왔다");
+        index.index(3L, "자바", "람다와 스트림");
+
+        Page<Long> result = index.search("스프링", PageRequest.of(0, 10));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(Arrays.asList(1L, 2L), result.getContent());
+    }
+
+    @Test
+    void removeAndReindex() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "스프링 게시판", "게시판 만들기");
+        index.index(1L, "자바 게시판", "게시판 만들기");
+        index.index(2L, "스프링", "스프링");
+        index.remove(2L);
+
+        assertTrue(index.search("스프링", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(Arrays.asList(1L), index.search("자바", PageRequest.of(0, 10)).getContent());
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,163 @@
+package com.able.board.service;
+
+import com.able.board.domain.BoardIdempotencyKey;
+import com.able.board.dto.BoardCreateRequest;
+import com.able.board.dto.BoardResponse;
+import com.able.board.exception.IdempotencyKeyInProgressException;
+import com.able.board.exception.IdempotencyKeyMismatchException;
+import com.able.board.repository.BoardIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BoardIdempotencyStoreTest {
+
+    private static final String KEY = "3f2b8c1e-5d4a-4e1b-9c7d-2a6f0e8b1d3c";
+
+    private static final BoardCreateRequest REQUEST = new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "황철원");
+
+    private static final BoardResponse RESPONSE = new BoardResponse(1L, "안녕하세요", "여러분 ㅎㅇ여", "황철원", null, null, 0L);
+
+    private final BoardIdempotencyKeyRepository repository = mock(BoardIdempotencyKeyRepository.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentDuplicatesCreateOnce() throws Exception {
+        BoardIdempotencyStore store = store(Duration.ofSeconds(5), false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<BoardResponse> first = executor.submit(() -> store.execute(KEY, REQUEST, blockingCreate(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<BoardResponse> duplicate = executor.submit(() -> store.execute(KEY, REQUEST, this::create));
+        release.countDown();
+
+        assertEquals(RESPONSE, first.get(5, TimeUnit.SECONDS));
+        assertEquals(RESPONSE, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void duplicateThatWaitsTooLongIsInProgress() throws Exception {
+        BoardIdempotencyStore store = store(Duration.ofMillis(50), false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<BoardResponse> first = executor.submit(() -> store.execute(KEY, REQUEST, blockingCreate(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(IdempotencyKeyInProgressException.class, () -> store.execute(KEY, REQUEST, this::create));
+        release.countDown();
+        assertEquals(RESPONSE, first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rolledBackCreateCanBeRetried() {
+        BoardIdempotencyStore store = store(Duration.ofSeconds(5), false);
+
+        assertThrows(IllegalStateException.class, () -> store.execute(KEY, REQUEST, () -> {
+            throw new IllegalStateException("rollback");
+        }));
+
+        assertEquals(RESPONSE, store.execute(KEY, REQUEST, this::create));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void differentBodyWithSameKeyIsRejected() {
+        BoardIdempotencyStore store = store(Duration.ofSeconds(5), false);
+        store.execute(KEY, REQUEST, this::create);
+
+        BoardCreateRequest otherWriter = new BoardCreateRequest("안녕하세요", "여러분 ㅎㅇ여", "다른사람");
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> store.execute(KEY, otherWriter, this::create));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void persistedResponseIsReplayedAfterRestart() {
+        store(Duration.ofSeconds(5), true).record(KEY, REQUEST, RESPONSE);
+        ArgumentCaptor<BoardIdempotencyKey> saved = ArgumentCaptor.forClass(BoardIdempotencyKey.class);
+        verify(repository).save(saved.capture());
+        given(repository.findById(KEY)).willReturn(Optional.of(saved.getValue()));
+
+        BoardIdempotencyStore restarted = store(Duration.ofSeconds(5), true);
+
+        assertEquals(RESPONSE, restarted.execute(KEY, REQUEST, this::create));
+        assertEquals(0, creations.get());
+        BoardCreateRequest otherTitle = new BoardCreateRequest("다른 제목", "여러분 ㅎㅇ여", "황철원");
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> store(Duration.ofSeconds(5), true).execute(KEY, otherTitle, this::create));
+    }
+
+    @Test
+    void inFlightKeyIsNotEvictedBySizeLimit() throws Exception {
+        BoardIdempotencyStore store = store(1, Duration.ofMillis(50), false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<BoardResponse> first = executor.submit(() -> store.execute(KEY, REQUEST, blockingCreate(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            store.execute("other-" + i, REQUEST, this::create);
+        }
+
+        assertThrows(IdempotencyKeyInProgressException.class, () -> store.execute(KEY, REQUEST, this::create));
+        release.countDown();
+        assertEquals(RESPONSE, first.get(5, TimeUnit.SECONDS));
+        assertEquals(101, creations.get());
+    }
+
+    private BoardIdempotencyStore store(Duration waitTimeout, boolean persistent) {
+        return store(100, waitTimeout, persistent);
+    }
+
+    private BoardIdempotencyStore store(long maximumKeys, Duration waitTimeout, boolean persistent) {
+        return new BoardIdempotencyStore(repository, objectMapper, new SimpleMeterRegistry(),
+                maximumKeys, Duration.ofHours(1), waitTimeout, persistent);
+    }
+
+    private BoardResponse create() {
+        creations.incrementAndGet();
+        return RESPONSE;
+    }
+
+    private Supplier<BoardResponse> blockingCreate(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return create();
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.able.board.service;
+
+import com.able.board.dto.BoardSummaryResponse;
+import com.able.board.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BoardServiceImplTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardCountCache boardCountCache;
+
+    @InjectMocks
+    private BoardServiceImpl boardService;
+
+    @Test
+    void findAllLastFullPageIgnoresStaleCount() {
+        PageRequest pageable = PageRequest.of(1, PAGE_SIZE);
+        given(boardRepository.findAllSummaries(pageable)).willReturn(new SliceImpl<>(summaries(PAGE_SIZE), pageable, false));
+        given(boardCountCache.get()).willReturn(1000L);
+
+        Page<BoardSummaryResponse> page = boardService.findAll(pageable);
+
+        assertTrue(page.isLast());
+        assertFalse(page.hasNext());
+        assertEquals(20, page.getTotalElements());
+    }
+
+    @Test
+    void findAllMiddlePageUsesCachedCount() {
+        PageRequest pageable = PageRequest.of(1, PAGE_SIZE);
+        given(boardRepository.findAllSummaries(pageable)).willReturn(new SliceImpl<>(summaries(PAGE_SIZE), pageable, true));
+        given(boardCountCache.get()).willReturn(1000L);
+
+        Page<BoardSummaryResponse> page = boardService.findAll(pageable);
+
+        assertFalse(page.isLast());
+        assertEquals(1000, page.getTotalElements());
+    }
+
+    @Test
+    void findAllNeverReportsLessThanTheCurrentPageProves() {
+        PageRequest pageable = PageRequest.of(1, PAGE_SIZE);
+        given(boardRepository.findAllSummaries(pageable)).willReturn(new SliceImpl<>(summaries(PAGE_SIZE), pageable, true));
+        given(boardCountCache.get()).willReturn(5L);
+
+        Page<BoardSummaryResponse> page = boardService.findAll(pageable);
+
+        assertTrue(page.hasNext());
+        assertEquals(21, page.getTotalElements());
+    }
+
+    @Test
+    void batchLargerThanLimitIsRejected() {
+        List<Long> boardIds = new ArrayList<>();
+        for (long i = 0; i <= BoardServiceImpl.MAX_BATCH_SIZE; i++) {
+            boardIds.add(i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> boardService.deleteAll(boardIds));
+    }
+
+    @Test
+    void cursorPageSizeIsClampedToMaxPageSize() {
+        PageRequest pageable = PageRequest.of(0, BoardServiceImpl.MAX_PAGE_SIZE);
+        given(boardRepository.findSummariesOrderByCreatedAt(pageable))
+                .willReturn(new SliceImpl<>(summaries(BoardServiceImpl.MAX_PAGE_SIZE), pageable, true));
+        given(boardRepository.findSummariesByWriter("황철원", pageable))
+                .willReturn(new SliceImpl<>(summaries(BoardServiceImpl.MAX_PAGE_SIZE), pageable, true));
+
+        assertEquals(BoardServiceImpl.MAX_PAGE_SIZE, boardService.findAllByCursor(null, 100_000).getSize());
+        assertEquals(BoardServiceImpl.MAX_PAGE_SIZE, boardService.findAllByWriter("황철원", null, 100_000).getSize());
+    }
+
+    private static List<BoardSummaryResponse> summaries(int size) {
+        List<BoardSummaryResponse> summaries = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            summaries.add(new BoardSummaryResponse(i, "안녕하세요", "황철원", LocalDateTime.now(), "여러분 ㅎㅇ여"));
+        }
+        return summaries;
+    }
+}
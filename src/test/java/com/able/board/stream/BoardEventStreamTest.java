@@ -0,0 +1,210 @@
+package com.able.board.stream;
+
+import com.able.board.domain.Board;
+import com.able.board.event.BoardChangedEvent;
+import com.able.board.event.BoardsImportedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardEventStreamTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoardEventStream stream;
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void replaysEventsAfterLastEventId() throws Exception {
+        stream = stream(8, 2);
+        RecordingEmitter first = subscribe(null);
+        for (int i = 0; i < 3; i++) {
+            stream.onBoardChanged(changed());
+        }
+        await(() -> first.events.size() == 3);
+
+        RecordingEmitter reconnected = subscribe(first.id(0));
+
+        await(() -> reconnected.events.size() == 2);
+        assertEquals(first.id(1), reconnected.id(0));
+        assertEquals(first.id(2), reconnected.id(1));
+    }
+
+    @Test
+    void unknownLastEventIdGetsReset() throws Exception {
+        stream = stream(8, 2);
+        stream.onBoardChanged(changed());
+
+        RecordingEmitter other = subscribe("restarted-1");
+
+        await(() -> other.events.size() == 1);
+        assertTrue(other.events.get(0).contains("event:" + BoardEventStream.RESET));
+    }
+
+    @Test
+    void lastEventIdOlderThanBufferGetsReset() throws Exception {
+        stream = stream(4, 2);
+        RecordingEmitter first = subscribe(null);
+        stream.onBoardChanged(changed());
+        await(() -> first.events.size() == 1);
+        for (int i = 0; i < 9; i++) {
+            stream.onBoardChanged(changed());
+        }
+
+        RecordingEmitter reconnected = subscribe(first.id(0));
+
+        await(() -> reconnected.events.size() == 1);
+        assertTrue(reconnected.events.get(0).contains("event:" + BoardEventStream.RESET));
+    }
+
+    @Test
+    void slowSubscriberIsEvictedWhenQueueOverflows() throws Exception {
+        stream = stream(4, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(null, release);
+
+        stream.onBoardChanged(changed());
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            stream.onBoardChanged(changed());
+        }
+
+        assertEquals(1, meterRegistry.counter("board.stream.evicted", "reason", "overflow").count());
+        assertFalse(slow.completed);
+
+        release.countDown();
+        await(() -> slow.completed);
+        assertEquals(1, slow.events.size());
+    }
+
+    @Test
+    void stalledSendIsEvictedAndDoesNotBlockOthers() throws Exception {
+        stream = stream(8, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuck = subscribe(null, release);
+
+        stream.onBoardChanged(changed());
+        assertTrue(stuck.sending.await(5, TimeUnit.SECONDS));
+        RecordingEmitter healthy = subscribe(null);
+        Thread.sleep(100);
+        stream.evictStalled();
+
+        assertEquals(1, meterRegistry.counter("board.stream.evicted", "reason", "stalled").count());
+        stream.onBoardChanged(changed());
+        await(() -> healthy.events.size() == 1);
+
+        release.countDown();
+        await(() -> stuck.completed);
+        await(() -> meterRegistry.get("board.stream.stalled-senders").gauge().value() == 0);
+    }
+
+    @Test
+    void importBatchIsSentAsSingleReset() throws Exception {
+        stream = stream(4, 2);
+        RecordingEmitter subscriber = subscribe(null);
+        List<BoardChangedEvent> boards = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            boards.add(changed());
+        }
+
+        stream.onBoardsImported(new BoardsImportedEvent(boards));
+
+        await(() -> subscriber.events.size() == 1);
+        assertTrue(subscriber.events.get(0).contains("event:" + BoardEventStream.RESET));
+        assertEquals(0, meterRegistry.counter("board.stream.evicted", "reason", "overflow").count());
+    }
+
+    private static BoardChangedEvent changed() {
+        return BoardChangedEvent.created(Board.createBoard("안녕하세요", "여러분 ㅎㅇ여", "황철원"), "여러분 ㅎㅇ여");
+    }
+
+    private BoardEventStream stream(int bufferSize, int senderThreads) {
+        return new BoardEventStream(new ObjectMapper(), meterRegistry, 16, bufferSize, senderThreads, 4,
+                Duration.ofMinutes(1), Duration.ofMillis(50), 60_000, 60_000);
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, null);
+    }
+
+    private RecordingEmitter subscribe(String lastEventId, CountDownLatch release) {
+        RecordingEmitter emitter = new RecordingEmitter(release);
+        stream.subscribe(lastEventId, emitter);
+        return emitter;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건을 기다리다 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 SSE 텍스트로 모은다. release 가 있으면 첫 전송을 그때까지 붙잡아 응답을 읽지 않는 클라이언트를 흉내 낸다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        private final CountDownLatch release;
+
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            events.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private String id(int index) {
+            for (String line : events.get(index).split("\n")) {
+                if (line.startsWith("id:")) {
+                    return line.substring("id:".length());
+                }
+            }
+            throw new AssertionError("id 없는 이벤트: " + events.get(index));
+        }
+    }
+}